@@ -0,0 +1,12 @@
+package com.tipster.customer.application.events;
+
+import com.tipster.customer.domain.models.MatchChange;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published with the per-match deltas of a league after a sync changed its match_data rows
+ */
+public record MatchChangesDetectedEvent(UUID leagueId, List<MatchChange> changes) {
+}
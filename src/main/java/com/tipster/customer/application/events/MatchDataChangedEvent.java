@@ -0,0 +1,9 @@
+package com.tipster.customer.application.events;
+
+import java.util.UUID;
+
+/**
+ * Published after a sync changed match_data rows of a league
+ */
+public record MatchDataChangedEvent(UUID leagueId, String leagueExternalId) {
+}
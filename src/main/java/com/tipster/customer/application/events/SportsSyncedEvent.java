@@ -0,0 +1,7 @@
+package com.tipster.customer.application.events;
+
+/**
+ * Published after sports were synced from a provider
+ */
+public record SportsSyncedEvent(String providerCode) {
+}
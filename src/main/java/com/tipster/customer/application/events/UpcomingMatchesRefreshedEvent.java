@@ -0,0 +1,10 @@
+package com.tipster.customer.application.events;
+
+import java.util.UUID;
+
+/**
+ * Published after the upcoming matches read model swapped in a new snapshot
+ * leagueId is null when the whole read model was rebuilt
+ */
+public record UpcomingMatchesRefreshedEvent(UUID leagueId) {
+}
@@ -0,0 +1,9 @@
+package com.tipster.customer.application.events;
+
+import java.util.UUID;
+
+/**
+ * Published when a user's active flag or roles may have changed, so cached principals are dropped
+ */
+public record UserAccessChangedEvent(UUID userId) {
+}
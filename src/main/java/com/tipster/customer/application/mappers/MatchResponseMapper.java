@@ -0,0 +1,58 @@
+package com.tipster.customer.application.mappers;
+
+import com.tipster.customer.application.service.MatchOddsService;
+import com.tipster.customer.domain.models.MatchListingRow;
+import com.tipster.customer.domain.models.dto.MatchBasicResponse;
+import com.tipster.customer.domain.models.dto.MatchDetailedResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps match listing rows to the basic (public) and detailed (tipster) match responses
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchResponseMapper {
+
+    private final MatchOddsService matchOddsService;
+
+    public MatchBasicResponse toBasicResponse(MatchListingRow row) {
+        MatchBasicResponse response = new MatchBasicResponse();
+        response.setId(row.id());
+        response.setExternalId(row.externalId());
+        response.setMatchDate(row.matchDatetime());
+        response.setStatus(row.status().name());
+        response.setVenue(row.venue());
+        response.setRound(row.round());
+        response.setSeason(row.season());
+        response.setLeague(new MatchBasicResponse.LeagueBasicInfo(
+                row.leagueId(), row.leagueExternalId(), row.leagueName(), row.leagueLogoUrl(), row.leagueCountry()));
+        response.setHomeTeam(new MatchBasicResponse.TeamBasicInfo(
+                row.homeTeamId(), row.homeTeamName(), row.homeTeamShortName(), row.homeTeamLogoUrl()));
+        response.setAwayTeam(new MatchBasicResponse.TeamBasicInfo(
+                row.awayTeamId(), row.awayTeamName(), row.awayTeamShortName(), row.awayTeamLogoUrl()));
+        return response;
+    }
+
+    public MatchDetailedResponse toDetailedResponse(MatchListingRow row) {
+        MatchDetailedResponse response = new MatchDetailedResponse();
+        response.setId(row.id());
+        response.setExternalId(row.externalId());
+        response.setMatchDate(row.matchDatetime());
+        response.setStatus(row.status().name());
+        response.setVenue(row.venue());
+        response.setRound(row.round());
+        response.setSeason(row.season());
+        response.setLeague(new MatchDetailedResponse.LeagueBasicInfo(
+                row.leagueId(), row.leagueExternalId(), row.leagueName(), row.leagueLogoUrl(), row.leagueCountry()));
+        response.setHomeTeam(new MatchDetailedResponse.TeamBasicInfo(
+                row.homeTeamId(), row.homeTeamName(), row.homeTeamShortName(), row.homeTeamLogoUrl()));
+        response.setAwayTeam(new MatchDetailedResponse.TeamBasicInfo(
+                row.awayTeamId(), row.awayTeamName(), row.awayTeamShortName(), row.awayTeamLogoUrl()));
+
+        // Odds come from match_data.odds as stored by the sync, no external call per match
+        response.setOdds(matchOddsService.getOdds(row.id(), row.odds()));
+
+        return response;
+    }
+}
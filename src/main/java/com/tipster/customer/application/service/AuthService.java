@@ -5,7 +5,7 @@ import com.tipster.customer.domain.models.dto.LoginRequest;
 import org.springframework.security.core.Authentication;
 
 public interface AuthService {
-    AuthResponse login(LoginRequest request);
+    AuthResponse login(LoginRequest request, String clientIp);
     AuthResponse getCurrentUser(Authentication authentication);
     void logout(Authentication authentication);
 }
@@ -0,0 +1,20 @@
+package com.tipster.customer.application.service;
+
+import com.tipster.customer.domain.models.MatchChange;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tracks the last known state of every upcoming fixture and turns syncs into per-match deltas
+ */
+public interface MatchChangeService {
+
+    /**
+     * Compare the stored fixtures of a league with their previously seen state and remember the new state
+     *
+     * @param leagueId League whose match_data rows were changed by a sync
+     * @return Fixture changes and changed odds markets, empty if nothing visible changed
+     */
+    List<MatchChange> detectChanges(UUID leagueId);
+}
@@ -0,0 +1,30 @@
+package com.tipster.customer.application.service;
+
+import com.tipster.customer.domain.models.MatchOddsSnapshot;
+import com.tipster.customer.domain.models.dto.MatchDetailedResponse;
+
+import java.util.UUID;
+
+/**
+ * Odds for match responses, decoded from the odds stored by the match sync
+ */
+public interface MatchOddsService {
+
+    /**
+     * Decoded, immutable odds of a match, cached per match and odds content
+     *
+     * @param matchId Match ID
+     * @param oddsJson Stored match_data.odds
+     * @return Decoded odds, or null if the match has no (readable) odds
+     */
+    MatchOddsSnapshot getSnapshot(UUID matchId, String oddsJson);
+
+    /**
+     * Stored odds of a match as a response DTO
+     *
+     * @param matchId Match ID
+     * @param oddsJson Stored match_data.odds
+     * @return Decoded odds, or null if the match has no (readable) odds
+     */
+    MatchDetailedResponse.MatchOdds getOdds(UUID matchId, String oddsJson);
+}
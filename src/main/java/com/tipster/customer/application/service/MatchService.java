@@ -1,25 +1,37 @@
 package com.tipster.customer.application.service;
 
+import com.tipster.customer.domain.enums.OddsSelectionType;
+import com.tipster.customer.domain.models.MatchPage;
 import com.tipster.customer.domain.models.dto.MatchBasicResponse;
 import com.tipster.customer.domain.models.dto.MatchDetailedResponse;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface MatchService {
     /**
-     * Get upcoming matches
-     * @param leagueId Optional league ID to filter by
+     * Get upcoming matches whose selected odds are above a price, filtered and sorted in SQL
+     * @param selection Odds value to filter on (e.g. over_2_5)
+     * @param priceAbove Exclusive lower bound for the price
+     * @param limit Maximum number of matches
      * @param isTipster Whether the requesting user is a tipster
-     * @return List of matches (basic or detailed based on user role)
+     * @return List of matches ordered by price descending (basic or detailed based on user role)
      */
-    List<?> getUpcomingMatches(UUID leagueId, boolean isTipster);
-    
+    List<?> getUpcomingMatchesByOdds(OddsSelectionType selection, BigDecimal priceAbove, int limit, boolean isTipster);
+
     /**
-     * Get upcoming matches by league external ID
-     * @param leagueExternalId League external ID to filter by
+     * Get one page of upcoming matches, ordered by (match datetime, id)
+     * @param leagueId Optional league ID to filter by (ignored when leagueExternalId is set)
+     * @param leagueExternalId Optional league external ID to filter by
+     * @param from Optional minimum match datetime (never earlier than now)
+     * @param to Optional maximum match datetime
+     * @param cursor Continuation token from the previous page, null for the first page
+     * @param limit Page size
      * @param isTipster Whether the requesting user is a tipster
-     * @return List of matches (basic or detailed based on user role)
+     * @return Matches of the page and the token for the next one
      */
-    List<?> getUpcomingMatchesByLeagueExternalId(String leagueExternalId, boolean isTipster);
+    MatchPage getUpcomingMatchesPage(UUID leagueId, String leagueExternalId, OffsetDateTime from, OffsetDateTime to,
+                                     String cursor, int limit, boolean isTipster);
 }
@@ -1,6 +1,7 @@
 package com.tipster.customer.application.service;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 /**
  * Service for syncing matches and odds from external APIs to the database
@@ -33,4 +34,11 @@ public interface MatchSyncService {
      * @return Total number of matches synced across all leagues
      */
     int syncMatchesForAllActiveLeagues(int days);
+
+    /**
+     * External IDs of the leagues kept in sync
+     * 
+     * @return League external IDs (e.g., "soccer_epl")
+     */
+    List<String> getSyncedLeagueExternalIds();
 }
@@ -0,0 +1,28 @@
+package com.tipster.customer.application.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resolves provider team names to team IDs, creating missing teams on the fly
+ */
+public interface TeamResolutionService {
+
+    /**
+     * Resolve all team names of a sync payload at once
+     *
+     * @param teamNames Team names as sent by the provider
+     * @param country Country assigned to teams that have to be created
+     * @return Team ID for every requested name, keyed by the name as passed in
+     */
+    Map<String, UUID> resolveTeamIds(Collection<String> teamNames, String country);
+
+    /**
+     * Normalized form of a team name, stored as the team's external ID
+     *
+     * @param teamName Team name as sent by the provider
+     * @return External ID such as "team_manchester_united"
+     */
+    String toExternalId(String teamName);
+}
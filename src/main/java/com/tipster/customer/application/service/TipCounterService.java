@@ -0,0 +1,17 @@
+package com.tipster.customer.application.service;
+
+/**
+ * Global tip aggregates shown with every tips page, kept in memory instead of counted per request
+ */
+public interface TipCounterService {
+
+    /**
+     * @return Number of published tips with price 0
+     */
+    long getFreeTipsCount();
+
+    /**
+     * @return Number of published tips whose matches are all scheduled and none has kicked off yet
+     */
+    long getAvailableTipsCount();
+}
@@ -15,6 +15,23 @@ public interface TipService {
             BigDecimal maxPrice,
             String status,
             Boolean isFree,
-            Pageable pageable
+            Pageable pageable,
+            boolean includeTotal
+    );
+
+    /**
+     * Keyset page of the tips feed, for deep scrolling without offsets or counts
+     *
+     * @param cursor Token from the previous page, null or empty for the first page
+     * @param size Page size
+     */
+    TipsPageResponse getTipsAfter(
+            UUID tipsterId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String status,
+            Boolean isFree,
+            String cursor,
+            int size
     );
 }
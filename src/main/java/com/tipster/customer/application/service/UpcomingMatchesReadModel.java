@@ -0,0 +1,37 @@
+package com.tipster.customer.application.service;
+
+import com.tipster.customer.domain.models.MatchKeysetCursor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory read model of upcoming scheduled fixtures with pre-built responses
+ * Rebuilt at startup and patched per league whenever a sync changes match_data
+ */
+public interface UpcomingMatchesReadModel {
+
+    /**
+     * Keyset page of upcoming matches from the read model, ordered by (match_datetime, id)
+     *
+     * @param leagueId Optional league ID to filter by (ignored when leagueExternalId is set)
+     * @param leagueExternalId Optional league external ID to filter by
+     * @param detailed Whether to return detailed (tipster) responses
+     * @param from Minimum match datetime (inclusive)
+     * @param to Maximum match datetime (inclusive)
+     * @param after Last match of the previous page, null for the first page
+     * @param limit Page size
+     * @return Page, or empty if the read model is not built yet
+     */
+    Optional<Slice> findUpcomingPage(UUID leagueId, String leagueExternalId, boolean detailed,
+                                     OffsetDateTime from, OffsetDateTime to, MatchKeysetCursor after, int limit);
+
+    /**
+     * @param items Matches of the page
+     * @param next Position of the last item if more matches follow, otherwise null
+     */
+    record Slice(List<?> items, MatchKeysetCursor next) {
+    }
+}
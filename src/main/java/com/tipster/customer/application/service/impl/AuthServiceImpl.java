@@ -1,22 +1,30 @@
 package com.tipster.customer.application.service.impl;
 
+import com.tipster.customer.application.events.UserAccessChangedEvent;
 import com.tipster.customer.application.service.AuthService;
 import com.tipster.customer.domain.entities.User;
 import com.tipster.customer.domain.entities.UserRole;
+import com.tipster.customer.domain.exceptions.TooManyRequestsException;
 import com.tipster.customer.domain.exceptions.ValidateException;
 import com.tipster.customer.domain.models.dto.AuthResponse;
 import com.tipster.customer.domain.models.dto.LoginRequest;
 import com.tipster.customer.domain.repository.UserRepository;
 import com.tipster.customer.domain.repository.UserRoleRepository;
+import com.tipster.customer.infrastructure.security.AuthenticatedUser;
+import com.tipster.customer.infrastructure.security.JwtClaims;
 import com.tipster.customer.infrastructure.security.JwtTokenService;
+import com.tipster.customer.infrastructure.security.LoginAttemptLimiter;
+import com.tipster.customer.infrastructure.security.PasswordVerifier;
+import com.tipster.customer.infrastructure.security.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 @Service
 @RequiredArgsConstructor
@@ -24,25 +32,48 @@ public  class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final UserRoleRepository userRoleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginAttemptLimiter loginAttemptLimiter;
     private final JwtTokenService jwtTokenService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TokenRevocationList tokenRevocationList;
 
+    // Not transactional: no connection is held while the password is verified
     @Override
-    @Transactional
-    public AuthResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new ValidateException("Invalid email or password", List.of("Invalid credentials")));
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        // Throttled before any database or bcrypt work
+        OptionalLong retryAfter = loginAttemptLimiter.retryAfter(clientIp, request.getEmail());
+        if (retryAfter.isPresent()) {
+            throw new TooManyRequestsException("Too many failed login attempts, try again later", retryAfter.getAsLong());
+        }
+
+        Optional<User> found = userRepository.findByEmail(request.getEmail());
+        if (found.isEmpty()) {
+            loginAttemptLimiter.recordFailure(clientIp, request.getEmail());
+            throw new ValidateException("Invalid email or password", List.of("Invalid credentials"));
+        }
+        User user = found.get();
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        PasswordVerifier.Verification verification = passwordVerifier.verify(request.getPassword(), user.getPasswordHash());
+        if (!verification.matches()) {
+            loginAttemptLimiter.recordFailure(clientIp, request.getEmail());
             throw new ValidateException("Invalid email or password", List.of("Invalid credentials"));
         }
+        // The password was right, so earlier typos no longer count against this account
+        loginAttemptLimiter.recordSuccess(request.getEmail());
 
         if (!user.getIsActive()) {
             throw new ValidateException("Account is inactive", List.of("Account has been deactivated"));
         }
 
+        if (verification.upgradedHash() != null) {
+            // The configured bcrypt cost changed since this hash was made
+            user.setPasswordHash(verification.upgradedHash());
+        }
         user.setLastLoginAt(OffsetDateTime.now());
         userRepository.save(user);
+        // The user was just read, so requests with the new token start from current roles
+        eventPublisher.publishEvent(new UserAccessChangedEvent(user.getId()));
 
         // Get user's primary role from users table (role column)
         // Default to USER if role is null (shouldn't happen due to default constraint)
@@ -72,10 +103,14 @@ public  class AuthServiceImpl implements AuthService {
         }
 
         Object principal = authentication.getPrincipal();
-        if (!(principal instanceof User user)) {
+        if (!(principal instanceof AuthenticatedUser authenticatedUser)) {
             throw new ValidateException("Invalid principal type", List.of("User details not found"));
         }
 
+        // The principal only carries what authorization needs; profile fields come from the user itself
+        User user = userRepository.findById(authenticatedUser.id())
+                .orElseThrow(() -> new ValidateException("User not found", List.of("User details not found")));
+
         // Get user's primary role from users table (role column)
         // Default to USER if role is null (shouldn't happen due to default constraint)
         String primaryRole = (user.getRole() != null) ? user.getRole().name() : "USER";
@@ -91,13 +126,11 @@ public  class AuthServiceImpl implements AuthService {
 
     @Override
     public void logout(Authentication authentication) {
-        // Logout implementation
-        // Since JWT is stateless, we can't invalidate the token server-side without a blacklist
-        // The frontend will clear the token immediately, which effectively logs the user out
-        // In a production system, you might want to implement a token blacklist using Redis/cache
-        if (authentication != null && authentication.isAuthenticated()) {
-            // Token invalidation logic can be added here if using a blacklist
-            // For now, we just acknowledge the logout request
+        // The filter keeps the verified claims as credentials; revoking the jti rejects the token everywhere
+        // until it expires, the frontend clears it as well
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getCredentials() instanceof JwtClaims claims) {
+            tokenRevocationList.revoke(claims);
         }
     }
 }
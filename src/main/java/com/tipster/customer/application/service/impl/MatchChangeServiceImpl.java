@@ -0,0 +1,144 @@
+package com.tipster.customer.application.service.impl;
+
+import com.tipster.customer.application.events.MatchChangesDetectedEvent;
+import com.tipster.customer.application.events.MatchDataChangedEvent;
+import com.tipster.customer.application.mappers.MatchResponseMapper;
+import com.tipster.customer.application.service.MatchChangeService;
+import com.tipster.customer.application.service.MatchOddsService;
+import com.tipster.customer.domain.enums.MatchChangeType;
+import com.tipster.customer.domain.enums.MatchStatusType;
+import com.tipster.customer.domain.models.MatchChange;
+import com.tipster.customer.domain.models.MatchListingRow;
+import com.tipster.customer.domain.models.MatchOddsSnapshot;
+import com.tipster.customer.domain.repository.MatchDataRepository;
+import com.tipster.customer.infrastructure.utils.ContentFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps (kickoff, status, odds hash, decoded odds) of every upcoming fixture per league
+ * After a sync changed a league, its fixtures are reloaded and compared with that state; only rows whose
+ * kickoff, status or stored odds changed are compared market by market
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchChangeServiceImpl implements MatchChangeService {
+
+    private static final String MATCH_RESULT = "match_result";
+    private static final String OVER_UNDER = "over_under";
+    private static final String BTTS = "btts";
+    private static final String DOUBLE_CHANCE = "double_chance";
+    private static final String HANDICAP = "handicap";
+
+    private final MatchDataRepository matchDataRepository;
+    private final MatchOddsService matchOddsService;
+    private final MatchResponseMapper matchResponseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<UUID, Map<UUID, FixtureState>> statesByLeague = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadState() {
+        try {
+            Map<UUID, Map<UUID, FixtureState>> states = new HashMap<>();
+            for (MatchListingRow row : matchDataRepository.findUpcomingMatches(OffsetDateTime.now(), MatchStatusType.scheduled)) {
+                states.computeIfAbsent(row.leagueId(), id -> new HashMap<>()).put(row.id(), toState(row));
+            }
+            statesByLeague.putAll(states);
+            log.info("Loaded match change baseline for {} leagues", states.size());
+        } catch (Exception e) {
+            log.error("Failed to load match change baseline: {}", e.getMessage(), e);
+        }
+    }
+
+    @EventListener
+    public void onMatchDataChanged(MatchDataChangedEvent event) {
+        try {
+            List<MatchChange> changes = detectChanges(event.leagueId());
+            if (!changes.isEmpty()) {
+                eventPublisher.publishEvent(new MatchChangesDetectedEvent(event.leagueId(), changes));
+            }
+        } catch (Exception e) {
+            log.error("Failed to detect match changes for league {}: {}", event.leagueExternalId(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<MatchChange> detectChanges(UUID leagueId) {
+        List<MatchListingRow> rows = matchDataRepository.findUpcomingMatchesByLeague(
+                leagueId, OffsetDateTime.now(), MatchStatusType.scheduled);
+
+        List<MatchChange> changes = new ArrayList<>();
+        // Per-league compute keeps concurrent syncs of the same league from interleaving their diffs
+        statesByLeague.compute(leagueId, (id, previous) -> {
+            Map<UUID, FixtureState> before = previous != null ? previous : Map.of();
+            Map<UUID, FixtureState> after = new HashMap<>(rows.size() * 2);
+            for (MatchListingRow row : rows) {
+                FixtureState state = toState(row);
+                after.put(row.id(), state);
+                diff(row, before.get(row.id()), state, changes);
+            }
+            for (UUID matchId : before.keySet()) {
+                if (!after.containsKey(matchId)) {
+                    changes.add(new MatchChange(MatchChangeType.removed, matchId, leagueId, null, null));
+                }
+            }
+            return after.isEmpty() ? null : after;
+        });
+        return changes;
+    }
+
+    private void diff(MatchListingRow row, FixtureState before, FixtureState after, List<MatchChange> changes) {
+        if (before != null && before.kickoff().isEqual(after.kickoff()) && before.status() == after.status()
+                && Objects.equals(before.oddsHash(), after.oddsHash())) {
+            return;
+        }
+
+        if (before == null || !before.kickoff().isEqual(after.kickoff()) || before.status() != after.status()) {
+            changes.add(new MatchChange(MatchChangeType.fixture, row.id(), row.leagueId(), null,
+                    matchResponseMapper.toBasicResponse(row)));
+        }
+
+        MatchOddsSnapshot oldOdds = before != null ? before.odds() : null;
+        MatchOddsSnapshot newOdds = after.odds();
+        diffMarket(row, MATCH_RESULT, oldOdds != null ? oldOdds.matchResult() : null,
+                newOdds != null ? newOdds.matchResult() : null, changes);
+        diffMarket(row, OVER_UNDER, oldOdds != null ? emptyToNull(oldOdds.overUnder()) : null,
+                newOdds != null ? emptyToNull(newOdds.overUnder()) : null, changes);
+        diffMarket(row, BTTS, oldOdds != null ? oldOdds.bothTeamsToScore() : null,
+                newOdds != null ? newOdds.bothTeamsToScore() : null, changes);
+        diffMarket(row, DOUBLE_CHANCE, oldOdds != null ? oldOdds.doubleChance() : null,
+                newOdds != null ? newOdds.doubleChance() : null, changes);
+        diffMarket(row, HANDICAP, oldOdds != null ? emptyToNull(oldOdds.handicap()) : null,
+                newOdds != null ? emptyToNull(newOdds.handicap()) : null, changes);
+    }
+
+    private static void diffMarket(MatchListingRow row, String market, Object before, Object after, List<MatchChange> changes) {
+        if (!Objects.equals(before, after)) {
+            changes.add(new MatchChange(MatchChangeType.odds, row.id(), row.leagueId(), market, after));
+        }
+    }
+
+    private static List<?> emptyToNull(List<?> lines) {
+        return lines.isEmpty() ? null : lines;
+    }
+
+    private FixtureState toState(MatchListingRow row) {
+        MatchOddsSnapshot odds = matchOddsService.getSnapshot(row.id(), row.odds());
+        // Hashed from the stored odds, so the short-circuit cannot hide a change the sync fingerprint missed
+        Long oddsHash = row.odds() != null ? ContentFingerprint.of(row.odds()) : null;
+        return new FixtureState(row.matchDatetime(), row.status(), oddsHash, odds);
+    }
+
+    private record FixtureState(OffsetDateTime kickoff, MatchStatusType status, Long oddsHash, MatchOddsSnapshot odds) {
+    }
+}
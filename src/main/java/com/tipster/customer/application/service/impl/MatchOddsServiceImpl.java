@@ -0,0 +1,226 @@
+package com.tipster.customer.application.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tipster.customer.application.service.MatchOddsService;
+import com.tipster.customer.domain.models.MatchOddsSnapshot;
+import com.tipster.customer.domain.models.dto.MatchDetailedResponse;
+import com.tipster.customer.infrastructure.utils.ContentFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Decodes match_data.odds (the normalized JSON written by the match sync) into MatchOddsSnapshot
+ * Snapshots are memoized per (match, hash of the odds JSON), so a match is decoded again only after its odds changed
+ */
+@Service
+@Slf4j
+public class MatchOddsServiceImpl implements MatchOddsService {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<OddsCacheKey, Optional<MatchOddsSnapshot>> snapshots;
+
+    public MatchOddsServiceImpl(ObjectMapper objectMapper,
+                                @Value("${match.odds-cache.max-size:10000}") long oddsCacheMaxSize) {
+        this.objectMapper = objectMapper;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(oddsCacheMaxSize)
+                .build();
+    }
+
+    @Override
+    public MatchOddsSnapshot getSnapshot(UUID matchId, String oddsJson) {
+        if (oddsJson == null || oddsJson.isBlank()) {
+            return null;
+        }
+
+        // Keyed by the odds themselves: hashing the JSON is far cheaper than decoding it, and a changed
+        // payload can never be answered with a snapshot decoded from the previous one
+        OddsCacheKey key = new OddsCacheKey(matchId, ContentFingerprint.of(oddsJson));
+
+        return snapshots.get(key, k -> Optional.ofNullable(decode(matchId, oddsJson))).orElse(null);
+    }
+
+    @Override
+    public MatchDetailedResponse.MatchOdds getOdds(UUID matchId, String oddsJson) {
+        MatchOddsSnapshot snapshot = getSnapshot(matchId, oddsJson);
+        return snapshot != null ? toResponse(snapshot) : null;
+    }
+
+    private MatchOddsSnapshot decode(UUID matchId, String oddsJson) {
+        try {
+            JsonNode root = objectMapper.readTree(oddsJson);
+            if (!root.isObject()) {
+                return null;
+            }
+            return new MatchOddsSnapshot(
+                    decodeMatchResult(root.path("match_result")),
+                    decodeOverUnder(root.path("over_under")),
+                    decodeBtts(root.path("btts")),
+                    decodeDoubleChance(root.path("double_chance")),
+                    decodeHandicap(root.path("handicap")),
+                    root.path("bookmaker").asText(null)
+            );
+        } catch (Exception e) {
+            log.warn("Failed to decode stored odds for match {}: {}", matchId, e.getMessage());
+            return null;
+        }
+    }
+
+    private MatchOddsSnapshot.ThreeWay decodeMatchResult(JsonNode node) {
+        if (!node.isObject()) {
+            return null;
+        }
+        return new MatchOddsSnapshot.ThreeWay(price(node, "home_win"), price(node, "draw"), price(node, "away_win"));
+    }
+
+    /**
+     * over_X_5 / under_X_5 keys, one entry per line
+     */
+    private List<MatchOddsSnapshot.OverUnderLine> decodeOverUnder(JsonNode node) {
+        if (!node.isObject()) {
+            return null;
+        }
+        // line -> [over, under]
+        Map<BigDecimal, BigDecimal[]> byLine = new TreeMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            String key = field.getKey();
+            int separator = key.indexOf('_');
+            if (separator < 0 || !field.getValue().isNumber()) {
+                continue;
+            }
+            BigDecimal line;
+            try {
+                line = new BigDecimal(key.substring(separator + 1).replace('_', '.'));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            BigDecimal[] prices = byLine.computeIfAbsent(line, l -> new BigDecimal[2]);
+            if (key.startsWith("over")) {
+                prices[0] = field.getValue().decimalValue();
+            } else if (key.startsWith("under")) {
+                prices[1] = field.getValue().decimalValue();
+            }
+        }
+
+        List<MatchOddsSnapshot.OverUnderLine> lines = new ArrayList<>(byLine.size());
+        byLine.forEach((line, prices) -> lines.add(new MatchOddsSnapshot.OverUnderLine(line, prices[0], prices[1])));
+        return lines;
+    }
+
+    private MatchOddsSnapshot.YesNo decodeBtts(JsonNode node) {
+        if (!node.isObject()) {
+            return null;
+        }
+        return new MatchOddsSnapshot.YesNo(price(node, "yes"), price(node, "no"));
+    }
+
+    private MatchOddsSnapshot.DoubleChance decodeDoubleChance(JsonNode node) {
+        if (!node.isObject()) {
+            return null;
+        }
+        return new MatchOddsSnapshot.DoubleChance(
+                price(node, "home_draw"), price(node, "home_away"), price(node, "away_draw"));
+    }
+
+    /**
+     * home_+X / away_-X keys; the line is expressed from the home side, so "home_-1.5" and "away_+1.5" form one entry
+     */
+    private List<MatchOddsSnapshot.HandicapLine> decodeHandicap(JsonNode node) {
+        if (!node.isObject()) {
+            return null;
+        }
+        // home line -> [home, away]
+        Map<BigDecimal, BigDecimal[]> byLine = new TreeMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            String key = field.getKey();
+            int separator = key.indexOf('_');
+            if (separator < 0 || !field.getValue().isNumber()) {
+                continue;
+            }
+            String side = key.substring(0, separator);
+            boolean home = "home".equals(side);
+            if (!home && !"away".equals(side)) {
+                continue;
+            }
+            BigDecimal point;
+            try {
+                point = new BigDecimal(key.substring(separator + 1).replace(',', '.'));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            BigDecimal line = (home ? point : point.negate()).stripTrailingZeros();
+            BigDecimal[] prices = byLine.computeIfAbsent(line, l -> new BigDecimal[2]);
+            prices[home ? 0 : 1] = field.getValue().decimalValue();
+        }
+
+        List<MatchOddsSnapshot.HandicapLine> lines = new ArrayList<>(byLine.size());
+        byLine.forEach((line, prices) -> lines.add(new MatchOddsSnapshot.HandicapLine(line, prices[0], prices[1])));
+        return lines;
+    }
+
+    private static BigDecimal price(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isNumber() ? value.decimalValue() : null;
+    }
+
+    // Response DTOs are mutable, so every response gets its own copy of the cached snapshot
+    private MatchDetailedResponse.MatchOdds toResponse(MatchOddsSnapshot snapshot) {
+        MatchDetailedResponse.MatchOdds matchOdds = new MatchDetailedResponse.MatchOdds();
+
+        if (snapshot.matchResult() != null) {
+            MatchDetailedResponse.OddsValue matchResult = new MatchDetailedResponse.OddsValue();
+            matchResult.setHome(snapshot.matchResult().home());
+            matchResult.setDraw(snapshot.matchResult().draw());
+            matchResult.setAway(snapshot.matchResult().away());
+            matchOdds.setMatchResult(matchResult);
+        }
+
+        if (!snapshot.overUnder().isEmpty()) {
+            List<MatchDetailedResponse.OverUnderOdds> overUnder = new ArrayList<>(snapshot.overUnder().size());
+            for (MatchOddsSnapshot.OverUnderLine line : snapshot.overUnder()) {
+                overUnder.add(new MatchDetailedResponse.OverUnderOdds(line.line(), line.over(), line.under()));
+            }
+            matchOdds.setOverUnder(overUnder);
+        }
+
+        if (snapshot.bothTeamsToScore() != null) {
+            MatchDetailedResponse.OddsValue btts = new MatchDetailedResponse.OddsValue();
+            btts.setYes(snapshot.bothTeamsToScore().yes());
+            btts.setNo(snapshot.bothTeamsToScore().no());
+            matchOdds.setBothTeamsToScore(btts);
+        }
+
+        if (snapshot.doubleChance() != null) {
+            MatchDetailedResponse.OddsValue doubleChance = new MatchDetailedResponse.OddsValue();
+            doubleChance.setHomeOrDraw(snapshot.doubleChance().homeOrDraw());
+            doubleChance.setHomeOrAway(snapshot.doubleChance().homeOrAway());
+            doubleChance.setDrawOrAway(snapshot.doubleChance().drawOrAway());
+            matchOdds.setDoubleChance(doubleChance);
+        }
+
+        if (!snapshot.handicap().isEmpty()) {
+            List<MatchDetailedResponse.HandicapOdds> handicap = new ArrayList<>(snapshot.handicap().size());
+            for (MatchOddsSnapshot.HandicapLine line : snapshot.handicap()) {
+                handicap.add(new MatchDetailedResponse.HandicapOdds(line.line(), line.home(), line.away()));
+            }
+            matchOdds.setHandicap(handicap);
+        }
+
+        if (snapshot.bookmaker() != null) {
+            matchOdds.setOtherMarkets(Map.of("bookmaker", snapshot.bookmaker()));
+        }
+        return matchOdds;
+    }
+
+    private record OddsCacheKey(UUID matchId, long fingerprint) {
+    }
+}
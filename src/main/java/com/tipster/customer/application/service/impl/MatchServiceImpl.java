@@ -1,21 +1,28 @@
 package com.tipster.customer.application.service.impl;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tipster.customer.application.mappers.MatchResponseMapper;
 import com.tipster.customer.application.service.MatchService;
-import com.tipster.customer.domain.entities.MatchData;
+import com.tipster.customer.application.service.UpcomingMatchesReadModel;
 import com.tipster.customer.domain.enums.MatchStatusType;
+import com.tipster.customer.domain.exceptions.ValidateException;
+import com.tipster.customer.domain.enums.OddsSelectionType;
+import com.tipster.customer.domain.models.MatchKeysetCursor;
+import com.tipster.customer.domain.models.MatchListingRow;
+import com.tipster.customer.domain.models.MatchPage;
 import com.tipster.customer.domain.models.dto.MatchBasicResponse;
 import com.tipster.customer.domain.models.dto.MatchDetailedResponse;
 import com.tipster.customer.domain.repository.MatchDataRepository;
-import com.tipster.customer.infrastructure.external.theoddsapi.TheOddsApiClient;
+import com.tipster.customer.domain.repository.MatchOddsQueryRepository;
+import com.tipster.customer.infrastructure.utils.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -24,335 +31,100 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MatchServiceImpl implements MatchService {
 
-    private final MatchDataRepository matchDataRepository;
-    private final TheOddsApiClient oddsApiClient;
-    private final ObjectMapper objectMapper;
+    // Upper bound of the listing when the client does not pass "to"
+    private static final int OPEN_WINDOW_YEARS = 10;
+    // Sorts before every real match ID in PostgreSQL uuid order
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
 
-    private static final String DEFAULT_REGIONS = "us,uk,eu";
-    private static final String DEFAULT_MARKETS = "h2h,spreads,totals";
+    private final MatchDataRepository matchDataRepository;
+    private final MatchOddsQueryRepository matchOddsQueryRepository;
+    private final MatchResponseMapper matchResponseMapper;
+    private final UpcomingMatchesReadModel upcomingMatchesReadModel;
 
     @Override
     @Transactional(readOnly = true)
-    public List<?> getUpcomingMatches(UUID leagueId, boolean isTipster) {
-        OffsetDateTime now = OffsetDateTime.now();
-        List<MatchData> matches;
-
-        if (leagueId != null) {
-            matches = matchDataRepository.findUpcomingMatchesByLeague(leagueId, now, MatchStatusType.scheduled);
-        } else {
-            matches = matchDataRepository.findUpcomingMatches(now, MatchStatusType.scheduled);
+    public List<?> getUpcomingMatchesByOdds(OddsSelectionType selection, BigDecimal priceAbove, int limit, boolean isTipster) {
+        List<UUID> matchIds = matchOddsQueryRepository.findUpcomingMatchIdsByOddsAbove(
+                selection, priceAbove, OffsetDateTime.now(), MatchStatusType.scheduled, limit);
+        if (matchIds.isEmpty()) {
+            return List.of();
         }
 
+        // Keep the price order from the odds query
+        Map<UUID, MatchListingRow> matchesById = matchDataRepository.findListingRowsByIdIn(matchIds).stream()
+                .collect(Collectors.toMap(MatchListingRow::id, match -> match));
+        List<MatchListingRow> matches = matchIds.stream()
+                .map(matchesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
         if (isTipster) {
             return matches.stream()
-                    .map(this::mapToDetailedResponse)
+                    .map(matchResponseMapper::toDetailedResponse)
                     .collect(Collectors.toList());
         } else {
             return matches.stream()
-                    .map(this::mapToBasicResponse)
+                    .map(matchResponseMapper::toBasicResponse)
                     .collect(Collectors.toList());
         }
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<?> getUpcomingMatchesByLeagueExternalId(String leagueExternalId, boolean isTipster) {
+    public MatchPage getUpcomingMatchesPage(UUID leagueId, String leagueExternalId, OffsetDateTime from, OffsetDateTime to,
+                                            String cursor, int limit, boolean isTipster) {
         OffsetDateTime now = OffsetDateTime.now();
-        List<MatchData> matches = matchDataRepository.findUpcomingMatchesByLeagueExternalId(
-                leagueExternalId, now, MatchStatusType.scheduled);
-
-        if (isTipster) {
-            return matches.stream()
-                    .map(this::mapToDetailedResponse)
-                    .collect(Collectors.toList());
+        OffsetDateTime windowStart = from != null && from.isAfter(now) ? from : now;
+        OffsetDateTime windowEnd = to != null ? to : windowStart.plusYears(OPEN_WINDOW_YEARS);
+        MatchKeysetCursor after = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : null;
+        // leagueExternalId wins over leagueId, as it always has on /matches/upcoming
+        String externalId = leagueExternalId != null && !leagueExternalId.isEmpty() ? leagueExternalId : null;
+        UUID internalId = externalId != null ? null : leagueId;
+
+        Optional<UpcomingMatchesReadModel.Slice> fromReadModel = upcomingMatchesReadModel.findUpcomingPage(
+                internalId, externalId, isTipster, windowStart, windowEnd, after, limit);
+        if (fromReadModel.isPresent()) {
+            UpcomingMatchesReadModel.Slice slice = fromReadModel.get();
+            return new MatchPage(slice.items(), slice.next() != null ? encodeCursor(slice.next()) : null);
+        }
+
+        // Read model not built yet: keyset query, one extra row tells whether another page follows
+        MatchKeysetCursor position = after != null ? after : new MatchKeysetCursor(windowStart, MIN_UUID);
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        List<MatchListingRow> matches;
+        if (internalId != null) {
+            matches = matchDataRepository.findUpcomingMatchesPageByLeague(internalId, windowStart, windowEnd,
+                    position.matchDatetime(), position.id(), MatchStatusType.scheduled, pageRequest);
+        } else if (externalId != null) {
+            matches = matchDataRepository.findUpcomingMatchesPageByLeagueExternalId(externalId, windowStart, windowEnd,
+                    position.matchDatetime(), position.id(), MatchStatusType.scheduled, pageRequest);
         } else {
-            return matches.stream()
-                    .map(this::mapToBasicResponse)
-                    .collect(Collectors.toList());
+            matches = matchDataRepository.findUpcomingMatchesPage(windowStart, windowEnd,
+                    position.matchDatetime(), position.id(), MatchStatusType.scheduled, pageRequest);
         }
-    }
-
-    private MatchBasicResponse mapToBasicResponse(MatchData match) {
-        MatchBasicResponse response = new MatchBasicResponse();
-        response.setId(match.getId());
-        response.setExternalId(match.getExternalId());
-        response.setMatchDate(match.getMatchDatetime());
-        response.setStatus(match.getStatus().name());
-        response.setVenue(match.getVenue());
-        response.setRound(match.getRound());
-        response.setSeason(match.getSeason());
 
-        // League info
-        if (match.getLeague() != null) {
-            MatchBasicResponse.LeagueBasicInfo leagueInfo = new MatchBasicResponse.LeagueBasicInfo();
-            leagueInfo.setId(match.getLeague().getId());
-            leagueInfo.setExternalId(match.getLeague().getExternalId());
-            leagueInfo.setName(match.getLeague().getName());
-            leagueInfo.setLogoUrl(match.getLeague().getLogoUrl());
-            leagueInfo.setCountry(match.getLeague().getCountry());
-            response.setLeague(leagueInfo);
+        String nextCursor = null;
+        if (matches.size() > limit) {
+            matches = matches.subList(0, limit);
+            MatchListingRow last = matches.get(limit - 1);
+            nextCursor = encodeCursor(new MatchKeysetCursor(last.matchDatetime(), last.id()));
         }
 
-        // Home team info
-        if (match.getHomeTeam() != null) {
-            MatchBasicResponse.TeamBasicInfo homeTeamInfo = new MatchBasicResponse.TeamBasicInfo();
-            homeTeamInfo.setId(match.getHomeTeam().getId());
-            homeTeamInfo.setName(match.getHomeTeam().getName());
-            homeTeamInfo.setShortName(match.getHomeTeam().getShortName());
-            homeTeamInfo.setLogoUrl(match.getHomeTeam().getLogoUrl());
-            response.setHomeTeam(homeTeamInfo);
-        }
-
-        // Away team info
-        if (match.getAwayTeam() != null) {
-            MatchBasicResponse.TeamBasicInfo awayTeamInfo = new MatchBasicResponse.TeamBasicInfo();
-            awayTeamInfo.setId(match.getAwayTeam().getId());
-            awayTeamInfo.setName(match.getAwayTeam().getName());
-            awayTeamInfo.setShortName(match.getAwayTeam().getShortName());
-            awayTeamInfo.setLogoUrl(match.getAwayTeam().getLogoUrl());
-            response.setAwayTeam(awayTeamInfo);
-        }
-
-        return response;
+        List<?> items = isTipster
+                ? matches.stream().map(matchResponseMapper::toDetailedResponse).collect(Collectors.toList())
+                : matches.stream().map(matchResponseMapper::toBasicResponse).collect(Collectors.toList());
+        return new MatchPage(items, nextCursor);
     }
 
-    private MatchDetailedResponse mapToDetailedResponse(MatchData match) {
-        MatchDetailedResponse response = new MatchDetailedResponse();
-        response.setId(match.getId());
-        response.setExternalId(match.getExternalId());
-        response.setMatchDate(match.getMatchDatetime());
-        response.setStatus(match.getStatus().name());
-        response.setVenue(match.getVenue());
-        response.setRound(match.getRound());
-        response.setSeason(match.getSeason());
-
-        // League info
-        if (match.getLeague() != null) {
-            MatchDetailedResponse.LeagueBasicInfo leagueInfo = new MatchDetailedResponse.LeagueBasicInfo();
-            leagueInfo.setId(match.getLeague().getId());
-            leagueInfo.setExternalId(match.getLeague().getExternalId());
-            leagueInfo.setName(match.getLeague().getName());
-            leagueInfo.setLogoUrl(match.getLeague().getLogoUrl());
-            leagueInfo.setCountry(match.getLeague().getCountry());
-            response.setLeague(leagueInfo);
-        }
-
-        // Home team info
-        if (match.getHomeTeam() != null) {
-            MatchDetailedResponse.TeamBasicInfo homeTeamInfo = new MatchDetailedResponse.TeamBasicInfo();
-            homeTeamInfo.setId(match.getHomeTeam().getId());
-            homeTeamInfo.setName(match.getHomeTeam().getName());
-            homeTeamInfo.setShortName(match.getHomeTeam().getShortName());
-            homeTeamInfo.setLogoUrl(match.getHomeTeam().getLogoUrl());
-            response.setHomeTeam(homeTeamInfo);
-        }
-
-        // Away team info
-        if (match.getAwayTeam() != null) {
-            MatchDetailedResponse.TeamBasicInfo awayTeamInfo = new MatchDetailedResponse.TeamBasicInfo();
-            awayTeamInfo.setId(match.getAwayTeam().getId());
-            awayTeamInfo.setName(match.getAwayTeam().getName());
-            awayTeamInfo.setShortName(match.getAwayTeam().getShortName());
-            awayTeamInfo.setLogoUrl(match.getAwayTeam().getLogoUrl());
-            response.setAwayTeam(awayTeamInfo);
-        }
-
-        // Fetch and map odds from The Odds API
-        try {
-            if (match.getLeague() != null && match.getLeague().getExternalId() != null) {
-                MatchDetailedResponse.MatchOdds odds = fetchAndMapOdds(match.getLeague().getExternalId(), match);
-                response.setOdds(odds);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to fetch odds for match {}: {}", match.getId(), e.getMessage());
-            // Set odds to null if fetch fails
-            response.setOdds(null);
-        }
-
-        return response;
+    private String encodeCursor(MatchKeysetCursor cursor) {
+        return CursorCodec.encode(cursor.matchDatetime().toString(), cursor.id().toString());
     }
 
-    private MatchDetailedResponse.MatchOdds fetchAndMapOdds(String sportKey, MatchData match) {
+    private MatchKeysetCursor decodeCursor(String cursor) {
+        List<String> values = CursorCodec.decode(cursor, 2);
         try {
-            String oddsJson = oddsApiClient.fetchMatchesWithOdds(sportKey, DEFAULT_REGIONS, DEFAULT_MARKETS);
-            JsonNode oddsArray = objectMapper.readTree(oddsJson);
-
-            // Find the match in the odds response
-            for (JsonNode oddsData : oddsArray) {
-                String homeTeam = oddsData.path("home_team").asText();
-                String awayTeam = oddsData.path("away_team").asText();
-                
-                // Match by team names (fuzzy matching)
-                if (isTeamMatch(homeTeam, match.getHomeTeam().getName()) &&
-                    isTeamMatch(awayTeam, match.getAwayTeam().getName())) {
-                    
-                    return mapOddsFromJson(oddsData);
-                }
-            }
-
-            log.debug("No odds found for match: {} vs {}", match.getHomeTeam().getName(), match.getAwayTeam().getName());
-            return null;
-        } catch (Exception e) {
-            log.error("Error fetching odds for match {}: {}", match.getId(), e.getMessage(), e);
-            return null;
-        }
-    }
-
-    private boolean isTeamMatch(String apiTeamName, String dbTeamName) {
-        // Simple fuzzy matching - can be improved
-        String apiNormalized = apiTeamName.toLowerCase().trim();
-        String dbNormalized = dbTeamName.toLowerCase().trim();
-        return apiNormalized.equals(dbNormalized) || 
-               apiNormalized.contains(dbNormalized) || 
-               dbNormalized.contains(apiNormalized);
-    }
-
-    private MatchDetailedResponse.MatchOdds mapOddsFromJson(JsonNode oddsData) {
-        MatchDetailedResponse.MatchOdds matchOdds = new MatchDetailedResponse.MatchOdds();
-        
-        JsonNode bookmakers = oddsData.path("bookmakers");
-        if (!bookmakers.isArray() || bookmakers.size() == 0) {
-            return null;
+            return new MatchKeysetCursor(OffsetDateTime.parse(values.get(0)), UUID.fromString(values.get(1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new ValidateException("Invalid cursor", List.of("The cursor is malformed or expired, restart from the first page"));
         }
-
-        // Use the first bookmaker's odds (or aggregate if needed)
-        JsonNode firstBookmaker = bookmakers.get(0);
-        JsonNode markets = firstBookmaker.path("markets");
-
-        for (JsonNode market : markets) {
-            String marketKey = market.path("key").asText();
-            JsonNode outcomes = market.path("outcomes");
-
-            switch (marketKey) {
-                case "h2h": // Match Result (1X2)
-                    matchOdds.setMatchResult(mapMatchResultOdds(outcomes));
-                    break;
-                case "totals": // Over/Under
-                    if (matchOdds.getOverUnder() == null) {
-                        matchOdds.setOverUnder(new ArrayList<>());
-                    }
-                    MatchDetailedResponse.OverUnderOdds overUnder = mapOverUnderOdds(market);
-                    if (overUnder != null) {
-                        matchOdds.getOverUnder().add(overUnder);
-                    }
-                    break;
-                case "spreads": // Handicap
-                    if (matchOdds.getHandicap() == null) {
-                        matchOdds.setHandicap(new ArrayList<>());
-                    }
-                    MatchDetailedResponse.HandicapOdds handicap = mapHandicapOdds(market);
-                    if (handicap != null) {
-                        matchOdds.getHandicap().add(handicap);
-                    }
-                    break;
-            }
-        }
-
-        // Map Both Teams to Score and Double Chance if available
-        // These might be in different markets or need to be calculated
-        mapAdditionalMarkets(markets, matchOdds);
-
-        return matchOdds;
-    }
-
-    private MatchDetailedResponse.OddsValue mapMatchResultOdds(JsonNode outcomes) {
-        MatchDetailedResponse.OddsValue oddsValue = new MatchDetailedResponse.OddsValue();
-        
-        if (!outcomes.isArray()) {
-            return oddsValue;
-        }
-        
-        for (JsonNode outcome : outcomes) {
-            String name = outcome.path("name").asText().toLowerCase();
-            JsonNode priceNode = outcome.path("price");
-            if (!priceNode.isNumber()) {
-                continue;
-            }
-            BigDecimal price = BigDecimal.valueOf(priceNode.asDouble());
-            
-            if (name.contains("home") || name.equals("1")) {
-                oddsValue.setHome(price);
-            } else if (name.contains("draw") || name.equals("x")) {
-                oddsValue.setDraw(price);
-            } else if (name.contains("away") || name.equals("2")) {
-                oddsValue.setAway(price);
-            }
-        }
-        
-        return oddsValue;
-    }
-
-    private MatchDetailedResponse.OverUnderOdds mapOverUnderOdds(JsonNode market) {
-        MatchDetailedResponse.OverUnderOdds overUnder = new MatchDetailedResponse.OverUnderOdds();
-        
-        JsonNode outcomes = market.path("outcomes");
-        if (!outcomes.isArray() || outcomes.size() == 0) {
-            return null;
-        }
-        
-        JsonNode pointNode = market.path("point");
-        if (pointNode.isMissingNode() || !pointNode.isNumber()) {
-            return null;
-        }
-        
-        BigDecimal point = BigDecimal.valueOf(pointNode.asDouble());
-        overUnder.setLine(point);
-        
-        for (JsonNode outcome : outcomes) {
-            String name = outcome.path("name").asText().toLowerCase();
-            JsonNode priceNode = outcome.path("price");
-            if (!priceNode.isNumber()) {
-                continue;
-            }
-            BigDecimal price = BigDecimal.valueOf(priceNode.asDouble());
-            
-            if (name.contains("over")) {
-                overUnder.setOver(price);
-            } else if (name.contains("under")) {
-                overUnder.setUnder(price);
-            }
-        }
-        
-        return overUnder;
-    }
-
-    private MatchDetailedResponse.HandicapOdds mapHandicapOdds(JsonNode market) {
-        MatchDetailedResponse.HandicapOdds handicap = new MatchDetailedResponse.HandicapOdds();
-        
-        JsonNode outcomes = market.path("outcomes");
-        if (!outcomes.isArray() || outcomes.size() == 0) {
-            return null;
-        }
-        
-        JsonNode pointNode = market.path("point");
-        if (pointNode.isMissingNode() || !pointNode.isNumber()) {
-            return null;
-        }
-        
-        BigDecimal point = BigDecimal.valueOf(pointNode.asDouble());
-        handicap.setLine(point);
-        
-        for (JsonNode outcome : outcomes) {
-            String name = outcome.path("name").asText().toLowerCase();
-            JsonNode priceNode = outcome.path("price");
-            if (!priceNode.isNumber()) {
-                continue;
-            }
-            BigDecimal price = BigDecimal.valueOf(priceNode.asDouble());
-            
-            if (name.contains("home") || name.equals("1")) {
-                handicap.setHome(price);
-            } else if (name.contains("away") || name.equals("2")) {
-                handicap.setAway(price);
-            }
-        }
-        
-        return handicap;
-    }
-
-    private void mapAdditionalMarkets(JsonNode markets, MatchDetailedResponse.MatchOdds matchOdds) {
-        // Both Teams to Score and Double Chance might be in separate markets
-        // For now, we'll leave them null or implement if The Odds API provides them
-        // You can extend this method to parse additional markets as needed
     }
 }
@@ -2,29 +2,34 @@ package com.tipster.customer.application.service.impl;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tipster.customer.application.events.MatchDataChangedEvent;
 import com.tipster.customer.application.service.MatchSyncService;
+import com.tipster.customer.application.service.TeamResolutionService;
 import com.tipster.customer.domain.entities.League;
-import com.tipster.customer.domain.entities.MatchData;
 import com.tipster.customer.domain.entities.Provider;
-import com.tipster.customer.domain.entities.Team;
 import com.tipster.customer.domain.enums.MatchStatusType;
 import com.tipster.customer.domain.repository.LeagueRepository;
-import com.tipster.customer.domain.repository.MatchDataRepository;
+import com.tipster.customer.domain.repository.MatchDataBatchRepository;
 import com.tipster.customer.domain.repository.ProviderRepository;
-import com.tipster.customer.domain.repository.TeamRepository;
+import com.tipster.customer.infrastructure.external.theoddsapi.OddsApiQuotaManager;
 import com.tipster.customer.infrastructure.external.theoddsapi.TheOddsApiClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * Service implementation for syncing matches from The Odds API to the database
@@ -37,11 +42,13 @@ import java.util.*;
 public class MatchSyncServiceImpl implements MatchSyncService {
 
     private final TheOddsApiClient oddsApiClient;
-    private final MatchDataRepository matchDataRepository;
-    private final TeamRepository teamRepository;
+    private final OddsApiQuotaManager quotaManager;
+    private final MatchDataBatchRepository matchDataBatchRepository;
+    private final TeamResolutionService teamResolutionService;
     private final LeagueRepository leagueRepository;
     private final ProviderRepository providerRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Top 5 European leagues
     private static final List<String> TOP_5_EUROPEAN_LEAGUES = List.of(
@@ -57,30 +64,48 @@ public class MatchSyncServiceImpl implements MatchSyncService {
     // Request only the markets we need: h2h (match_result), totals (over_under), btts, double_chance, spreads (handicap)
     // Note: alternate_totals and alternate_spreads require the /events/{eventId}/odds endpoint
     private static final String ALL_MARKETS = "h2h,totals,btts,double_chance,spreads";
+    // Cheaper market set used when the API credit budget cannot cover ALL_MARKETS
+    private static final String REDUCED_MARKETS = "h2h,totals";
     
     // Date formatting for The Odds API (YYYY-MM-DDTHH:MM:SSZ, no fractional seconds)
     private static final DateTimeFormatter ODDS_API_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+    // Sync leagues concurrently on virtual threads instead of one after another
+    @Value("${match.sync.parallel.enabled:true}")
+    private boolean parallelSyncEnabled;
+
+    // Upper bound on leagues being synced at the same time
+    @Value("${match.sync.parallel.max-concurrency:3}")
+    private int maxConcurrentLeagueSyncs;
+
+    @Override
+    public List<String> getSyncedLeagueExternalIds() {
+        return TOP_5_EUROPEAN_LEAGUES;
+    }
+
     @Override
     public int syncMatchesForAllActiveLeagues(int days) {
-        log.info("Starting match sync for top 5 European leagues (next {} days)", days);
+        log.info("Starting match sync for top 5 European leagues (next {} days, parallel: {})", days, parallelSyncEnabled);
         
         OffsetDateTime startDate = OffsetDateTime.now();
         OffsetDateTime endDate = startDate.plusDays(days);
         
+        List<LeagueSyncOutcome> outcomes = parallelSyncEnabled
+                ? syncLeaguesConcurrently(TOP_5_EUROPEAN_LEAGUES, startDate, endDate)
+                : syncLeaguesSequentially(TOP_5_EUROPEAN_LEAGUES, startDate, endDate);
+        
         int totalSyncedCount = 0;
         int totalErrorCount = 0;
         
-        for (String leagueExternalId : TOP_5_EUROPEAN_LEAGUES) {
-            try {
-                int syncedCount = syncMatchesForLeague(leagueExternalId, startDate, endDate);
-                totalSyncedCount += syncedCount;
-                log.info("Successfully synced {} matches for league: {}", syncedCount, leagueExternalId);
-            } catch (Exception e) {
+        for (LeagueSyncOutcome outcome : outcomes) {
+            if (outcome.error() != null) {
                 totalErrorCount++;
-                log.error("Error syncing matches for league {}: {}", leagueExternalId, e.getMessage(), e);
-                // Continue with other leagues even if one fails
+                log.error("Error syncing matches for league {}: {}", 
+                        outcome.leagueExternalId(), outcome.error().getMessage(), outcome.error());
+            } else {
+                totalSyncedCount += outcome.syncedCount();
+                log.info("Successfully synced {} matches for league: {}", outcome.syncedCount(), outcome.leagueExternalId());
             }
         }
         
@@ -92,6 +117,73 @@ public class MatchSyncServiceImpl implements MatchSyncService {
         return totalSyncedCount;
     }
 
+    /**
+     * Sync leagues one after another on the calling thread
+     */
+    private List<LeagueSyncOutcome> syncLeaguesSequentially(List<String> leagueExternalIds, 
+                                                            OffsetDateTime startDate, OffsetDateTime endDate) {
+        List<LeagueSyncOutcome> outcomes = new ArrayList<>(leagueExternalIds.size());
+        for (String leagueExternalId : leagueExternalIds) {
+            // Continue with other leagues even if one fails
+            outcomes.add(syncLeagueCapturingErrors(leagueExternalId, startDate, endDate));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Fan leagues out on virtual threads, with at most match.sync.parallel.max-concurrency
+     * leagues talking to The Odds API and the database at the same time.
+     * Wall-clock time becomes roughly that of the slowest league instead of the sum of all leagues.
+     */
+    private List<LeagueSyncOutcome> syncLeaguesConcurrently(List<String> leagueExternalIds, 
+                                                            OffsetDateTime startDate, OffsetDateTime endDate) {
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrentLeagueSyncs));
+        Map<String, Future<LeagueSyncOutcome>> futures = new LinkedHashMap<>();
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String leagueExternalId : leagueExternalIds) {
+                futures.put(leagueExternalId, executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return syncLeagueCapturingErrors(leagueExternalId, startDate, endDate);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            
+            List<LeagueSyncOutcome> outcomes = new ArrayList<>(futures.size());
+            for (Map.Entry<String, Future<LeagueSyncOutcome>> entry : futures.entrySet()) {
+                try {
+                    outcomes.add(entry.getValue().get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    outcomes.add(new LeagueSyncOutcome(entry.getKey(), 0, e));
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception ex ? ex : e;
+                    outcomes.add(new LeagueSyncOutcome(entry.getKey(), 0, cause));
+                }
+            }
+            return outcomes;
+        }
+    }
+
+    private LeagueSyncOutcome syncLeagueCapturingErrors(String leagueExternalId, 
+                                                        OffsetDateTime startDate, OffsetDateTime endDate) {
+        try {
+            int syncedCount = syncMatchesForLeague(leagueExternalId, startDate, endDate);
+            return new LeagueSyncOutcome(leagueExternalId, syncedCount, null);
+        } catch (Exception e) {
+            return new LeagueSyncOutcome(leagueExternalId, 0, e);
+        }
+    }
+
+    /**
+     * Result of syncing a single league; error is null when the league synced successfully
+     */
+    private record LeagueSyncOutcome(String leagueExternalId, int syncedCount, Exception error) {
+    }
+
     @Override
     public int syncMatchesForLeague(String leagueExternalId, int days) {
         OffsetDateTime startDate = OffsetDateTime.now();
@@ -115,62 +207,70 @@ public class MatchSyncServiceImpl implements MatchSyncService {
             String startDateStr = startDate.withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS).format(ODDS_API_DATE_FORMATTER);
             String endDateStr = endDate.withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS).format(ODDS_API_DATE_FORMATTER);
 
-            // Fetch matches from API with required markets (h2h, totals, btts, double_chance, spreads)
-            log.debug("Fetching matches for league: {} using markets: {}", leagueExternalId, ALL_MARKETS);
-            String matchesJson;
+            // Pick the richest market set the API credit budget allows right now
+            String markets = selectAffordableMarkets();
+            if (markets == null) {
+                log.warn("Skipping match sync for league {}: The Odds API credit budget is exhausted for now", leagueExternalId);
+                return 0;
+            }
+            boolean partialMarkets = !ALL_MARKETS.equals(markets);
+            if (partialMarkets) {
+                log.info("The Odds API credit budget is low, syncing league {} with reduced markets: {}", leagueExternalId, markets);
+            }
+
+            // Stream matches from API with the selected markets
+            // Each event is validated as soon as it is parsed; only the compact pending match is kept
+            log.debug("Fetching matches for league: {} using markets: {}", leagueExternalId, markets);
+            List<PendingMatch> pendingMatches = new ArrayList<>();
+            int[] errorCount = {0};
+            int eventCount;
             try {
-                matchesJson = oddsApiClient.fetchOdds(
+                eventCount = oddsApiClient.streamOdds(
                         leagueExternalId,
                         DEFAULT_REGIONS,
-                        ALL_MARKETS,
+                        markets,
                         startDateStr,
                         endDateStr,
-                        "decimal"
+                        "decimal",
+                        OddsApiQuotaManager.estimateCost(DEFAULT_REGIONS, markets),
+                        matchData -> {
+                            try {
+                                PendingMatch pendingMatch = toPendingMatch(matchData);
+                                if (pendingMatch != null) {
+                                    pendingMatches.add(pendingMatch);
+                                } else {
+                                    errorCount[0]++;
+                                }
+                            } catch (Exception e) {
+                                errorCount[0]++;
+                                String matchId = matchData.path("id").asText("unknown");
+                                log.error("Error processing match {} for league {}: {}", matchId, leagueExternalId, e.getMessage());
+                                // Log full stack trace in debug mode
+                                if (log.isDebugEnabled()) {
+                                    log.debug("Full error details for match {}: ", matchId, e);
+                                }
+                                // Continue processing other matches - a bad event must not drop the whole league
+                            }
+                        }
                 );
             } catch (Exception e) {
                 log.error("Error fetching matches from API for league {}: {}", leagueExternalId, e.getMessage(), e);
                 throw new RuntimeException("Failed to fetch matches from API for league: " + leagueExternalId, e);
             }
+            log.info("Parsed {} matches from API for league: {}", eventCount, leagueExternalId);
             
-            // Handle empty or null response gracefully
-            if (matchesJson == null || matchesJson.trim().isEmpty()) {
-                log.warn("Empty response from API for league: {}", leagueExternalId);
-                return 0;
-            }
-            
-            // Parse matches from JSON
-            List<JsonNode> matches = parseMatchesJson(matchesJson);
-            log.info("Parsed {} matches from API for league: {}", matches.size(), leagueExternalId);
-
-            // Process and save matches (each in its own transaction to prevent one failure from aborting all)
-            int syncedCount = 0;
-            int errorCount = 0;
-            for (JsonNode matchData : matches) {
-                try {
-                    MatchData match = processAndSaveMatchInNewTransaction(matchData, league);
-                    if (match != null) {
-                        syncedCount++;
-                    } else {
-                        errorCount++;
-                    }
-                } catch (Exception e) {
-                    errorCount++;
-                    String matchId = matchData.path("id").asText("unknown");
-                    log.error("Error processing match {} for league {}: {}", matchId, leagueExternalId, e.getMessage());
-                    // Log full stack trace in debug mode
-                    if (log.isDebugEnabled()) {
-                        log.debug("Full error details for match {}: ", matchId, e);
-                    }
-                    // Continue processing other matches - each match has its own transaction
-                }
-            }
-            
-            if (errorCount > 0) {
-                log.warn("Failed to process {} matches for league: {}", errorCount, leagueExternalId);
+            if (errorCount[0] > 0) {
+                log.warn("Failed to process {} matches for league: {}", errorCount[0], leagueExternalId);
             }
 
-            log.info("Successfully synced {} matches for league: {}", syncedCount, leagueExternalId);
-            return syncedCount;
+            List<MatchDataBatchRepository.UpsertRow> rows = toUpsertRows(pendingMatches, league);
+            MatchDataBatchRepository.UpsertResult result = matchDataBatchRepository.upsertAll(rows, partialMarkets);
+            log.info("Successfully synced {} matches for league: {} ({} changed: {} inserted, {} updated; {} unchanged)", 
+                    result.total(), leagueExternalId, result.changed(), result.inserted(), result.updated(), result.unchanged());
+            if (result.changed() > 0) {
+                eventPublisher.publishEvent(new MatchDataChangedEvent(league.getId(), leagueExternalId));
+            }
+            return result.total();
 
         } catch (Exception e) {
             log.error("Error syncing matches for league {}: {}", leagueExternalId, e.getMessage(), e);
@@ -179,57 +279,25 @@ public class MatchSyncServiceImpl implements MatchSyncService {
     }
 
     /**
-     * Parse JSON string to list of match nodes
-     * Handles errors gracefully and returns empty list on failure
+     * Full market set if the budget allows it, otherwise the reduced set, otherwise null
      */
-    private List<JsonNode> parseMatchesJson(String json) {
-        try {
-            if (json == null || json.trim().isEmpty()) {
-                log.warn("Empty JSON response from API");
-                return Collections.emptyList();
-            }
-            
-            JsonNode root = objectMapper.readTree(json);
-            if (root.isArray()) {
-                List<JsonNode> matches = new ArrayList<>();
-                for (JsonNode match : root) {
-                    matches.add(match);
-                }
-                log.debug("Parsed {} matches from JSON response", matches.size());
-                return matches;
-            } else {
-                // API returned an object (likely an error response)
-                if (root.has("message")) {
-                    log.warn("API returned error object. Message: {}", root.get("message").asText());
-                } else if (root.has("error")) {
-                    log.warn("API returned error object. Error: {}", root.get("error").asText());
-                } else {
-                    String responseContent = json.length() > 500 ? json.substring(0, 500) : json;
-                    log.warn("API returned object instead of array. Response content: {}", responseContent);
-                }
-                return Collections.emptyList();
-            }
-        } catch (Exception e) {
-            log.error("Error parsing matches JSON: {}. First 500 chars: {}", 
-                    e.getMessage(), json != null && json.length() > 500 ? json.substring(0, 500) : json, e);
-            return Collections.emptyList();
+    // Reserves the credits of the chosen set; streamOdds settles the reservation
+    private String selectAffordableMarkets() {
+        if (quotaManager.tryAcquire(OddsApiQuotaManager.estimateCost(DEFAULT_REGIONS, ALL_MARKETS))) {
+            return ALL_MARKETS;
         }
+        if (quotaManager.tryAcquire(OddsApiQuotaManager.estimateCost(DEFAULT_REGIONS, REDUCED_MARKETS))) {
+            return REDUCED_MARKETS;
+        }
+        return null;
     }
 
     /**
-     * Process a match from The Odds API and save it to the database
-     * Each match is processed in its own transaction to prevent one failure from aborting all
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
-    public MatchData processAndSaveMatchInNewTransaction(JsonNode matchData, League league) {
-        return processAndSaveMatch(matchData, league);
-    }
-
-    /**
-     * Process a match from The Odds API and save it to the database
+     * Validate a match from The Odds API and extract the fields we persist
      * This method handles all validation and error cases gracefully
+     * Returns null when the match is missing required fields
      */
-    private MatchData processAndSaveMatch(JsonNode matchData, League league) {
+    private PendingMatch toPendingMatch(JsonNode matchData) {
         try {
             // Extract external ID (required)
             String externalId = matchData.path("id").asText();
@@ -238,26 +306,16 @@ public class MatchSyncServiceImpl implements MatchSyncService {
                 return null;
             }
 
-            // Check if match already exists
-            Optional<MatchData> existingMatchOpt = matchDataRepository.findByExternalId(externalId);
-            MatchData match = existingMatchOpt.orElse(new MatchData());
-            
-            // Set external ID
-            match.setExternalId(externalId);
-
-            // Set league
-            match.setLeague(league);
-
-            // Parse and set match datetime (required)
+            // Parse match datetime (required)
             String commenceTimeStr = matchData.path("commence_time").asText();
             if (commenceTimeStr == null || commenceTimeStr.isEmpty()) {
                 log.warn("Match {} missing commence_time, skipping", externalId);
                 return null;
             }
             
+            OffsetDateTime matchDatetime;
             try {
-                OffsetDateTime matchDatetime = OffsetDateTime.parse(commenceTimeStr, ISO_FORMATTER);
-                match.setMatchDatetime(matchDatetime);
+                matchDatetime = OffsetDateTime.parse(commenceTimeStr, ISO_FORMATTER);
             } catch (Exception e) {
                 log.warn("Match {} has invalid commence_time format: {}, skipping", externalId, commenceTimeStr);
                 return null;
@@ -274,55 +332,17 @@ public class MatchSyncServiceImpl implements MatchSyncService {
                 return null;
             }
 
-            // Get or create teams with retry logic
-            // Get country from league before setting it on match to avoid lazy loading issues
-            String country = league != null ? league.getCountry() : null;
-            Team homeTeam;
-            Team awayTeam;
-            try {
-                homeTeam = getOrCreateTeamWithRetry(homeTeamName, country);
-                awayTeam = getOrCreateTeamWithRetry(awayTeamName, country);
-            } catch (Exception e) {
-                log.error("Error getting/creating teams for match {}: {}", externalId, e.getMessage(), e);
-                throw new RuntimeException("Failed to get/create teams for match: " + externalId, e);
-            }
-
-            match.setHomeTeam(homeTeam);
-            match.setAwayTeam(awayTeam);
-
-            // Set status (default to scheduled)
-            match.setStatus(MatchStatusType.scheduled);
-
-            // Parse and set odds from bookmakers (prefer betway, fallback to others)
-            // Always update odds even if match exists
+            // Parse odds from bookmakers (prefer betway, fallback to others)
+            // A null value keeps whatever odds are already stored for the match
             String oddsJsonString = extractOddsFromMatchData(matchData, homeTeamName, awayTeamName);
             if (oddsJsonString != null && !oddsJsonString.isEmpty()) {
-                match.setOdds(oddsJsonString);
                 log.debug("Extracted odds for match {}: {}", externalId, oddsJsonString);
             } else {
                 log.debug("No odds found for match {}", externalId);
+                oddsJsonString = null;
             }
 
-            // Update last synced timestamp
-            match.setLastSyncedAt(OffsetDateTime.now());
-
-            // Save match to database
-            try {
-                match = matchDataRepository.save(match);
-                log.debug("Saved match: {} ({}) - {} vs {}", match.getId(), externalId, homeTeamName, awayTeamName);
-                return match;
-            } catch (DataIntegrityViolationException e) {
-                // Handle unique constraint violations (external_id already exists)
-                log.warn("Match {} already exists in database (unique constraint violation), fetching existing match", externalId);
-                Optional<MatchData> existingMatch = matchDataRepository.findByExternalId(externalId);
-                if (existingMatch.isPresent()) {
-                    return existingMatch.get();
-                }
-                throw new RuntimeException("Failed to save match due to constraint violation: " + externalId, e);
-            } catch (Exception e) {
-                log.error("Error saving match {} ({} vs {}): {}", externalId, homeTeamName, awayTeamName, e.getMessage(), e);
-                throw new RuntimeException("Failed to save match: " + externalId, e);
-            }
+            return new PendingMatch(externalId, matchDatetime, homeTeamName, awayTeamName, oddsJsonString);
 
         } catch (RuntimeException e) {
             // Re-throw runtime exceptions
@@ -334,89 +354,57 @@ public class MatchSyncServiceImpl implements MatchSyncService {
     }
 
     /**
-     * Get or create a team by name with retry logic
-     * Handles race conditions by retrying fetch if creation fails due to duplicate key
+     * Resolve team IDs for all pending matches with a single lookup and build the match_data rows
      */
-    private Team getOrCreateTeamWithRetry(String teamName, String country) {
-        try {
-            return getOrCreateTeam(teamName, country);
-        } catch (DataIntegrityViolationException e) {
-            // Handle duplicate key or unique constraint violation
-            // This can happen in race conditions - another thread/process created the team
-            log.debug("Team {} already exists (race condition), fetching from DB", teamName);
-            String externalId = generateTeamExternalId(teamName);
-            Team existingTeam = fetchExistingTeam(teamName, externalId);
-            if (existingTeam != null) {
-                return existingTeam;
-            }
-            // If we still can't find it, log error and rethrow
-            log.error("Failed to create team {} and could not find existing team after duplicate key violation", teamName);
-            throw new RuntimeException("Failed to create team: " + teamName, e);
+    private List<MatchDataBatchRepository.UpsertRow> toUpsertRows(List<PendingMatch> pendingMatches, League league) {
+        if (pendingMatches.isEmpty()) {
+            return List.of();
         }
-    }
 
-    /**
-     * Get or create a team by name
-     * Uses REQUIRES_NEW propagation to isolate transaction failures
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
-    public Team getOrCreateTeam(String teamName, String country) {
-        // Try to find by name first
-        Optional<Team> teamOpt = teamRepository.findByName(teamName);
-        if (teamOpt.isPresent()) {
-            return teamOpt.get();
+        Set<String> teamNames = new HashSet<>();
+        for (PendingMatch pendingMatch : pendingMatches) {
+            teamNames.add(pendingMatch.homeTeamName());
+            teamNames.add(pendingMatch.awayTeamName());
         }
 
-        // Generate external ID
-        String externalId = generateTeamExternalId(teamName);
-        
-        // Try to find by external ID (in case name changed but external ID exists)
-        Optional<Team> teamByExternalIdOpt = teamRepository.findByExternalId(externalId);
-        if (teamByExternalIdOpt.isPresent()) {
-            Team existingTeam = teamByExternalIdOpt.get();
-            // Update name if it changed (but don't save if name is the same to avoid unnecessary DB call)
-            if (!teamName.equals(existingTeam.getName())) {
-                existingTeam.setName(teamName);
-                existingTeam = teamRepository.save(existingTeam);
-            }
-            return existingTeam;
-        }
-
-        // Create new team
-        Team team = new Team();
-        team.setName(teamName);
-        team.setCountry(country);
-        team.setExternalId(externalId);
-
-        team = teamRepository.save(team);
-        log.debug("Created new team: {} ({})", team.getName(), team.getId());
-        return team;
-    }
+        Map<String, UUID> teamIds;
+        try {
+            teamIds = teamResolutionService.resolveTeamIds(teamNames, league.getCountry());
+        } catch (Exception e) {
+            log.error("Error getting/creating teams for league {}: {}", league.getExternalId(), e.getMessage(), e);
+            throw new RuntimeException("Failed to get/create teams for league: " + league.getExternalId(), e);
+        }
 
-    /**
-     * Generate external ID for a team
-     */
-    private String generateTeamExternalId(String teamName) {
-        return "team_" + teamName.toLowerCase().replaceAll("[^a-z0-9]", "_");
+        OffsetDateTime syncedAt = OffsetDateTime.now();
+        List<MatchDataBatchRepository.UpsertRow> rows = new ArrayList<>(pendingMatches.size());
+        for (PendingMatch pendingMatch : pendingMatches) {
+            UUID homeTeamId = teamIds.get(pendingMatch.homeTeamName());
+            UUID awayTeamId = teamIds.get(pendingMatch.awayTeamName());
+            rows.add(new MatchDataBatchRepository.UpsertRow(
+                    pendingMatch.externalId(),
+                    league.getId(),
+                    homeTeamId,
+                    awayTeamId,
+                    pendingMatch.matchDatetime(),
+                    MatchStatusType.scheduled,
+                    pendingMatch.odds(),
+                    syncedAt
+            ));
+        }
+        return rows;
     }
 
     /**
-     * Fetch an existing team by name or external ID
-     * Runs in a new transaction to recover from aborted transactions
+     * A validated match from The Odds API whose teams are not resolved yet
+     * odds is null when no bookmaker offered any of the markets we store
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
-    private Team fetchExistingTeam(String teamName, String externalId) {
-        Optional<Team> teamOpt = teamRepository.findByName(teamName);
-        if (teamOpt.isPresent()) {
-            return teamOpt.get();
-        }
-        
-        Optional<Team> teamByExternalIdOpt = teamRepository.findByExternalId(externalId);
-        if (teamByExternalIdOpt.isPresent()) {
-            return teamByExternalIdOpt.get();
-        }
-        
-        return null;
+    private record PendingMatch(
+            String externalId,
+            OffsetDateTime matchDatetime,
+            String homeTeamName,
+            String awayTeamName,
+            String odds
+    ) {
     }
 
     /**
@@ -519,8 +507,10 @@ public class MatchSyncServiceImpl implements MatchSyncService {
 
             oddsMap.put("bookmaker", bookmakerName);
 
-            // Convert to stringified JSON
-            return objectMapper.writeValueAsString(oddsMap);
+            // Convert to stringified JSON with sorted keys so identical odds always serialize identically
+            return objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsString(oddsMap);
 
         } catch (Exception e) {
             log.warn("Error extracting odds from match data: {}", e.getMessage(), e);
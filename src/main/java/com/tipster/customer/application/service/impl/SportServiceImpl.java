@@ -2,6 +2,7 @@ package com.tipster.customer.application.service.impl;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tipster.customer.application.events.SportsSyncedEvent;
 import com.tipster.customer.application.service.SportService;
 import com.tipster.customer.domain.entities.Provider;
 import com.tipster.customer.domain.entities.Sport;
@@ -10,10 +11,11 @@ import com.tipster.customer.domain.models.dto.SportResponse;
 import com.tipster.customer.domain.repository.ProviderRepository;
 import com.tipster.customer.domain.repository.SportRepository;
 import com.tipster.customer.domain.exceptions.ResourceNotFoundException;
-import com.tipster.customer.infrastructure.utils.HttpHelper;
+import com.tipster.customer.infrastructure.external.http.ExternalHttpClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,8 @@ public class SportServiceImpl implements SportService {
     private final SportRepository sportRepository;
     private final ProviderRepository providerRepository;
     private final ObjectMapper objectMapper;
+    private final ExternalHttpClient httpClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${the-odds-api.api-key}")
     private String oddsApiKey;
@@ -55,7 +59,7 @@ public class SportServiceImpl implements SportService {
 
         try {
             // Fetch sports from API
-            String responseBody = HttpHelper.get(apiUrl, null);
+            String responseBody = httpClient.get(apiUrl, null).requireSuccessful().body();
             List<OddsApiSportResponse> apiSports = objectMapper.readValue(
                     responseBody, 
                     new TypeReference<List<OddsApiSportResponse>>() {}
@@ -82,6 +86,7 @@ public class SportServiceImpl implements SportService {
             }
 
             log.info("Successfully synced {} sports", syncedSports.size());
+            eventPublisher.publishEvent(new SportsSyncedEvent(providerCode));
             return syncedSports;
 
         } catch (Exception e) {
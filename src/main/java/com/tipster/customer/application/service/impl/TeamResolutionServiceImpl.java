@@ -0,0 +1,153 @@
+package com.tipster.customer.application.service.impl;
+
+import com.tipster.customer.application.service.TeamResolutionService;
+import com.tipster.customer.domain.entities.Team;
+import com.tipster.customer.domain.repository.TeamAliasRepository;
+import com.tipster.customer.domain.repository.TeamBatchRepository;
+import com.tipster.customer.domain.repository.TeamRepository;
+import com.tipster.customer.infrastructure.utils.TeamNameNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Team resolution for the match sync
+ * Keeps an in-memory hash index of normalized alias -> team ID, loaded from team_aliases and team names at startup
+ * and extended by every sync. Index misses are prefetched with a single IN query, remaining teams are created with
+ * one INSERT ... ON CONFLICT DO NOTHING, and every newly seen spelling is stored as an alias
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamResolutionServiceImpl implements TeamResolutionService {
+
+    private final TeamRepository teamRepository;
+    private final TeamBatchRepository teamBatchRepository;
+    private final TeamAliasRepository teamAliasRepository;
+
+    private final Map<String, UUID> teamIdsByAlias = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAliasIndex() {
+        teamAliasRepository.forEachAlias(teamIdsByAlias::put);
+        // Stored aliases win over plain team names
+        teamAliasRepository.forEachTeamName((name, teamId) ->
+                teamIdsByAlias.putIfAbsent(TeamNameNormalizer.normalize(name), teamId));
+        log.info("Loaded team alias index with {} entries", teamIdsByAlias.size());
+    }
+
+    @Override
+    public Map<String, UUID> resolveTeamIds(Collection<String> teamNames, String country) {
+        Map<String, UUID> idsByName = new HashMap<>();
+        Map<String, List<String>> missingNamesByAlias = new LinkedHashMap<>();
+
+        // 1. Alias index lookups
+        for (String teamName : new LinkedHashSet<>(teamNames)) {
+            String alias = TeamNameNormalizer.normalize(teamName);
+            UUID teamId = teamIdsByAlias.get(alias);
+            if (teamId != null) {
+                idsByName.put(teamName, teamId);
+            } else {
+                missingNamesByAlias.computeIfAbsent(alias, a -> new ArrayList<>()).add(teamName);
+            }
+        }
+
+        if (missingNamesByAlias.isEmpty()) {
+            return idsByName;
+        }
+
+        // 2. One query for all index misses, by name or by external ID (teams created elsewhere since startup)
+        Set<String> missingNames = new HashSet<>();
+        Set<String> missingExternalIds = new HashSet<>();
+        missingNamesByAlias.values().forEach(names -> names.forEach(name -> {
+            missingNames.add(name);
+            missingExternalIds.add(toExternalId(name));
+        }));
+        Map<String, Team> teamsByName = new HashMap<>();
+        Map<String, Team> teamsByExternalId = new HashMap<>();
+        for (Team team : teamRepository.findByNameInOrExternalIdIn(missingNames, missingExternalIds)) {
+            teamsByName.putIfAbsent(team.getName(), team);
+            if (team.getExternalId() != null) {
+                teamsByExternalId.put(team.getExternalId(), team);
+            }
+        }
+
+        Map<String, UUID> resolvedByAlias = new HashMap<>();
+        // alias -> external ID of the team to create for it
+        Map<String, String> externalIdsToCreate = new LinkedHashMap<>();
+        Map<String, TeamBatchRepository.NewTeam> teamsToCreate = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : missingNamesByAlias.entrySet()) {
+            Team team = findExisting(entry.getValue(), teamsByName, teamsByExternalId);
+            if (team != null) {
+                resolvedByAlias.put(entry.getKey(), team.getId());
+            } else {
+                String firstName = entry.getValue().get(0);
+                String externalId = toExternalId(firstName);
+                externalIdsToCreate.put(entry.getKey(), externalId);
+                teamsToCreate.putIfAbsent(externalId, new TeamBatchRepository.NewTeam(externalId, firstName, country));
+            }
+        }
+
+        // 3. Create all missing teams in one statement; conflicting rows were created concurrently
+        if (!teamsToCreate.isEmpty()) {
+            Map<String, UUID> createdIds = new HashMap<>(teamBatchRepository.insertMissing(teamsToCreate.values()));
+            log.debug("Created {} new teams ({} requested)", createdIds.size(), teamsToCreate.size());
+
+            Set<String> lostRaces = new HashSet<>(teamsToCreate.keySet());
+            lostRaces.removeAll(createdIds.keySet());
+            if (!lostRaces.isEmpty()) {
+                log.debug("{} teams were created concurrently, fetching them from DB", lostRaces.size());
+                for (Team team : teamRepository.findByExternalIdIn(lostRaces)) {
+                    createdIds.put(team.getExternalId(), team.getId());
+                }
+            }
+
+            for (Map.Entry<String, String> entry : externalIdsToCreate.entrySet()) {
+                UUID teamId = createdIds.get(entry.getValue());
+                if (teamId == null) {
+                    throw new RuntimeException("Failed to create team: " + missingNamesByAlias.get(entry.getKey()).get(0));
+                }
+                resolvedByAlias.put(entry.getKey(), teamId);
+            }
+        }
+
+        // 4. Remember every newly seen spelling, in memory and in team_aliases
+        List<TeamAliasRepository.NewAlias> newAliases = new ArrayList<>(resolvedByAlias.size());
+        for (Map.Entry<String, UUID> entry : resolvedByAlias.entrySet()) {
+            List<String> names = missingNamesByAlias.get(entry.getKey());
+            names.forEach(name -> idsByName.put(name, entry.getValue()));
+            newAliases.add(new TeamAliasRepository.NewAlias(entry.getValue(), entry.getKey(), names.get(0)));
+        }
+        teamAliasRepository.insertMissing(newAliases);
+        teamIdsByAlias.putAll(resolvedByAlias);
+
+        return idsByName;
+    }
+
+    @Override
+    public String toExternalId(String teamName) {
+        return "team_" + teamName.toLowerCase().replaceAll("[^a-z0-9]", "_");
+    }
+
+    // Prefer a match by name, fall back to external ID (in case the provider renamed the team)
+    private Team findExisting(List<String> names, Map<String, Team> teamsByName, Map<String, Team> teamsByExternalId) {
+        for (String name : names) {
+            Team team = teamsByName.get(name);
+            if (team != null) {
+                return team;
+            }
+        }
+        for (String name : names) {
+            Team team = teamsByExternalId.get(toExternalId(name));
+            if (team != null) {
+                return team;
+            }
+        }
+        return null;
+    }
+}
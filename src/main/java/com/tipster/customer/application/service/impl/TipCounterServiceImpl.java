@@ -0,0 +1,174 @@
+package com.tipster.customer.application.service.impl;
+
+import com.tipster.customer.application.service.TipCounterService;
+import com.tipster.customer.domain.enums.MatchStatusType;
+import com.tipster.customer.domain.repository.TipCounterQueryRepository;
+import com.tipster.customer.domain.repository.TipCounterQueryRepository.TipCounterState;
+import com.tipster.customer.domain.repository.TipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * Tip counters served from memory
+ * Each published tip is reduced to (free, available until): a tip stops being available when its first match
+ * kicks off, so kickoffs need no update at all - the available count is a binary search over the sorted
+ * "available until" instants. Tips, selections and matches changed in the database are picked up incrementally
+ * by updated_at, and a periodic full reload reconciles anything the incremental refresh cannot see (deletes)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TipCounterServiceImpl implements TipCounterService {
+
+    // Rows committed late may carry an updated_at slightly before the previous refresh
+    private static final Duration CHANGE_OVERLAP = Duration.ofMinutes(2);
+
+    // Some selection is not on a scheduled match: never available again
+    private static final long NEVER = Long.MIN_VALUE;
+    // No selections: nothing can kick off
+    private static final long ALWAYS = Long.MAX_VALUE;
+
+    private final TipCounterQueryRepository tipCounterQueryRepository;
+    private final TipRepository tipRepository;
+
+    private final Map<UUID, TipCounter> countersByTip = new HashMap<>();
+    private OffsetDateTime changedSince;
+
+    // Null until the first reload succeeded; replaced as a whole, never modified
+    private volatile Totals totals;
+
+    @Override
+    public long getFreeTipsCount() {
+        Totals current = totals;
+        return current != null ? current.free() : tipRepository.countFreeTips();
+    }
+
+    @Override
+    public long getAvailableTipsCount() {
+        Totals current = totals;
+        if (current == null) {
+            return tipRepository.countAvailableTips(OffsetDateTime.now(), MatchStatusType.scheduled);
+        }
+        long[] availableUntil = current.availableUntil();
+        return availableUntil.length - firstIndexAfter(availableUntil, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tips.counters.reconcile-interval-ms:900000}",
+            initialDelayString = "${tips.counters.reconcile-interval-ms:900000}")
+    public synchronized void reconcile() {
+        try {
+            OffsetDateTime startedAt = tipCounterQueryRepository.currentTimestamp();
+            Map<UUID, TipCounter> reloaded = new HashMap<>();
+            for (TipCounterState state : tipCounterQueryRepository.findAllPublishedStates()) {
+                reloaded.put(state.tipId(), toCounter(state));
+            }
+
+            if (totals != null && !reloaded.equals(countersByTip)) {
+                log.info("Tip counters drifted from the database, reconciled {} published tips", reloaded.size());
+            }
+            countersByTip.clear();
+            countersByTip.putAll(reloaded);
+            changedSince = startedAt;
+            publishTotals();
+        } catch (Exception e) {
+            log.error("Failed to reconcile tip counters: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tips.counters.refresh-interval-ms:30000}",
+            initialDelayString = "${tips.counters.refresh-interval-ms:30000}")
+    public synchronized void refreshChanged() {
+        if (changedSince == null) {
+            // Not loaded yet (or the initial load failed)
+            reconcile();
+            return;
+        }
+
+        try {
+            OffsetDateTime startedAt = tipCounterQueryRepository.currentTimestamp();
+            List<UUID> changedTipIds = tipCounterQueryRepository.findTipIdsChangedSince(changedSince.minus(CHANGE_OVERLAP));
+            if (!changedTipIds.isEmpty()) {
+                // Published or updated tips come back; unpublished ones do not and are dropped
+                Map<UUID, TipCounter> changed = new HashMap<>();
+                for (TipCounterState state : tipCounterQueryRepository.findPublishedStates(changedTipIds)) {
+                    changed.put(state.tipId(), toCounter(state));
+                }
+                boolean modified = false;
+                for (UUID tipId : changedTipIds) {
+                    TipCounter counter = changed.get(tipId);
+                    TipCounter previous = counter != null ? countersByTip.put(tipId, counter) : countersByTip.remove(tipId);
+                    modified |= !Objects.equals(previous, counter);
+                }
+                if (modified) {
+                    publishTotals();
+                }
+                log.debug("Refreshed tip counters for {} changed tips", changedTipIds.size());
+            }
+            changedSince = startedAt;
+        } catch (Exception e) {
+            log.error("Failed to refresh tip counters: {}", e.getMessage(), e);
+        }
+    }
+
+    private void publishTotals() {
+        long free = 0;
+        long[] availableUntil = new long[countersByTip.size()];
+        int n = 0;
+        for (TipCounter counter : countersByTip.values()) {
+            if (counter.free()) {
+                free++;
+            }
+            if (counter.availableUntil() != NEVER) {
+                availableUntil[n++] = counter.availableUntil();
+            }
+        }
+        availableUntil = Arrays.copyOf(availableUntil, n);
+        Arrays.sort(availableUntil);
+        totals = new Totals(free, availableUntil);
+    }
+
+    private static TipCounter toCounter(TipCounterState state) {
+        long availableUntil;
+        if (!state.allScheduled()) {
+            availableUntil = NEVER;
+        } else if (state.earliestKickoff() == null) {
+            availableUntil = ALWAYS;
+        } else {
+            availableUntil = state.earliestKickoff().toInstant().toEpochMilli();
+        }
+        return new TipCounter(state.free(), availableUntil);
+    }
+
+    // Upper bound: first instant > nowMillis (a tip whose match kicks off exactly now is no longer available)
+    private static int firstIndexAfter(long[] sorted, long nowMillis) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= nowMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record TipCounter(boolean free, long availableUntil) {
+    }
+
+    /**
+     * @param availableUntil Sorted epoch millis until which each potentially available tip stays available
+     */
+    private record Totals(long free, long[] availableUntil) {
+    }
+}
@@ -1,21 +1,30 @@
 package com.tipster.customer.application.service.impl;
 
+import com.tipster.customer.application.service.TipCounterService;
 import com.tipster.customer.application.service.TipService;
-import com.tipster.customer.domain.entities.Tip;
 import com.tipster.customer.domain.enums.TipStatusType;
+import com.tipster.customer.domain.exceptions.ValidateException;
+import com.tipster.customer.domain.models.TipFeedCursor;
+import com.tipster.customer.domain.models.TipFeedRow;
 import com.tipster.customer.domain.models.dto.TipResponse;
 import com.tipster.customer.domain.models.dto.TipsPageResponse;
-import com.tipster.customer.domain.repository.TipRepository;
+import com.tipster.customer.domain.repository.TipFeedRepository;
+import com.tipster.customer.domain.repository.TipSearchRepository;
+import com.tipster.customer.infrastructure.utils.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +32,9 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class TipServiceImpl implements TipService {
 
-    private final TipRepository tipRepository;
+    private final TipSearchRepository tipSearchRepository;
+    private final TipFeedRepository tipFeedRepository;
+    private final TipCounterService tipCounterService;
 
     @Override
     public TipsPageResponse getTips(
@@ -33,95 +44,163 @@ public class TipServiceImpl implements TipService {
             BigDecimal maxPrice,
             String status,
             Boolean isFree,
-            Pageable pageable
+            Pageable pageable,
+            boolean includeTotal
     ) {
 
-        TipStatusType statusEnum = null;
-        if (status != null) {
-            try {
-                statusEnum = TipStatusType.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Invalid status");
-            }
-        }
+        TipStatusType statusEnum = parseStatus(status);
+        BigDecimal effectiveMin = effectiveMinPrice(minPrice, isFree);
+        BigDecimal effectiveMax = effectiveMaxPrice(maxPrice, isFree);
 
-        // handle isFree WITHOUT SQL bullshit
-        BigDecimal effectiveMin = minPrice;
-        BigDecimal effectiveMax = maxPrice;
+        TipFeedRepository.Filter filter = new TipFeedRepository.Filter(tipsterId, effectiveMin, effectiveMax, statusEnum);
 
-        if (isFree != null) {
-            if (isFree) {
-                effectiveMax = BigDecimal.ZERO;
-            } else {
-                effectiveMin = BigDecimal.ZERO;
+        List<TipFeedRow> rows;
+        Long totalElements = null;
+        boolean hasNext;
+        if (keyword != null && !keyword.isBlank()) {
+            TipSearchRepository.SearchResult result = tipSearchRepository.search(
+                    keyword, tipsterId, effectiveMin, effectiveMax, statusEnum, pageable.getOffset(), pageable.getPageSize());
+            rows = findRowsInOrder(result.tipIds());
+            totalElements = result.totalElements();
+            hasNext = pageable.getOffset() + pageable.getPageSize() < totalElements;
+        } else if (includeTotal) {
+            rows = tipFeedRepository.findPage(filter, pageable.getOffset(), pageable.getPageSize());
+            totalElements = tipFeedRepository.count(filter);
+            hasNext = pageable.getOffset() + pageable.getPageSize() < totalElements;
+        } else {
+            // Fetches one extra row to know whether a next page exists, no count query
+            rows = tipFeedRepository.findPage(filter, pageable.getOffset(), pageable.getPageSize() + 1);
+            hasNext = rows.size() > pageable.getPageSize();
+            if (hasNext) {
+                rows = rows.subList(0, pageable.getPageSize());
             }
         }
 
-        Page<Tip> page = tipRepository.findPublishedTipsWithFilters(
-                keyword,
-                tipsterId,
-                effectiveMin,
-                effectiveMax,
-                statusEnum,
-                pageable
-        );
-
         TipsPageResponse response = new TipsPageResponse();
-        response.setTips(
-                page.getContent().stream()
-                        .map(this::mapToResponse)
-                        .toList()
-        );
-        response.setTotalElements(page.getTotalElements());
-        response.setTotalPages(page.getTotalPages());
-        response.setCurrentPage(page.getNumber());
-        response.setPageSize(page.getSize());
-        response.setFreeTipsCount(tipRepository.countFreeTips());
-        response.setAvailableTipsCount(
-                tipRepository.countAvailableTips(
-                        OffsetDateTime.now(),
-                        com.tipster.customer.domain.enums.MatchStatusType.scheduled
-                )
-        );
+        response.setTips(rows.stream().map(TipServiceImpl::mapToResponse).toList());
+        if (totalElements != null) {
+            response.setTotalElements(totalElements);
+            response.setTotalPages((int) Math.ceil((double) totalElements / pageable.getPageSize()));
+        }
+        response.setCurrentPage(pageable.getPageNumber());
+        response.setPageSize(pageable.getPageSize());
+        response.setHasNext(hasNext);
+        response.setFreeTipsCount(tipCounterService.getFreeTipsCount());
+        response.setAvailableTipsCount(tipCounterService.getAvailableTipsCount());
 
     return response;
     }
 
-    private TipResponse mapToResponse(Tip tip) {
-        TipResponse response = new TipResponse();
-        response.setId(tip.getId());
-        response.setTitle(tip.getTitle());
-        response.setDescription(tip.getDescription());
-        response.setPrice(tip.getPrice());
-        response.setTotalOdds(tip.getTotalOdds());
-        response.setStatus(tip.getStatus() != null ? tip.getStatus().name() : null);
-        response.setPurchasesCount(tip.getPurchasesCount() != null ? tip.getPurchasesCount() : 0);
-        response.setPublishedAt(tip.getPublishedAt());
-        response.setEarliestMatchDate(tip.getEarliestMatchDate());
-        response.setCreatedAt(tip.getCreatedAt());
-
-        // Map tipster info
-        if (tip.getTipster() != null) {
-            TipResponse.TipsterBasicInfo tipsterInfo = new TipResponse.TipsterBasicInfo();
-            tipsterInfo.setId(tip.getTipster().getId());
-            
-            // Get display name from user
-            if (tip.getTipster().getUser() != null) {
-                tipsterInfo.setDisplayName(tip.getTipster().getUser().getDisplayName());
-                tipsterInfo.setAvatarUrl(tip.getTipster().getUser().getAvatarUrl());
-            } else {
-                tipsterInfo.setDisplayName(tip.getTipster().getBio()); // Fallback to bio
-                tipsterInfo.setAvatarUrl(tip.getTipster().getAvatarUrl());
-            }
-            
-            tipsterInfo.setIsVerified(tip.getTipster().getIsVerified() != null ? tip.getTipster().getIsVerified() : false);
-            tipsterInfo.setRating(tip.getTipster().getRating());
-            tipsterInfo.setSuccessRate(tip.getTipster().getSuccessRate());
-            tipsterInfo.setTotalTips(tip.getTipster().getTotalTips() != null ? tip.getTipster().getTotalTips() : 0);
-            
-            response.setTipster(tipsterInfo);
+    @Override
+    public TipsPageResponse getTipsAfter(
+            UUID tipsterId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String status,
+            Boolean isFree,
+            String cursor,
+            int size
+    ) {
+        TipFeedCursor after = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : null;
+
+        // One extra row tells whether another page follows
+        List<TipFeedRow> rows = tipFeedRepository.findAfter(after, new TipFeedRepository.Filter(tipsterId,
+                effectiveMinPrice(minPrice, isFree), effectiveMaxPrice(maxPrice, isFree), parseStatus(status)), size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
         }
 
+        TipsPageResponse response = new TipsPageResponse();
+        response.setTips(rows.stream().map(TipServiceImpl::mapToResponse).toList());
+        response.setPageSize(size);
+        response.setHasNext(hasNext);
+        response.setNextCursor(hasNext ? encodeCursor(rows.get(rows.size() - 1).cursor()) : null);
+        response.setFreeTipsCount(tipCounterService.getFreeTipsCount());
+        response.setAvailableTipsCount(tipCounterService.getAvailableTipsCount());
+        return response;
+    }
+
+    private static TipStatusType parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return TipStatusType.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status");
+        }
+    }
+
+    // handle isFree WITHOUT SQL bullshit
+    private static BigDecimal effectiveMinPrice(BigDecimal minPrice, Boolean isFree) {
+        return Boolean.FALSE.equals(isFree) ? BigDecimal.ZERO : minPrice;
+    }
+
+    private static BigDecimal effectiveMaxPrice(BigDecimal maxPrice, Boolean isFree) {
+        return Boolean.TRUE.equals(isFree) ? BigDecimal.ZERO : maxPrice;
+    }
+
+    private static String encodeCursor(TipFeedCursor cursor) {
+        return CursorCodec.encode(
+                cursor.tipsterRating().toPlainString(),
+                cursor.tipsterSuccessRate().toPlainString(),
+                cursor.publishedAt() != null ? cursor.publishedAt().toString() : "",
+                cursor.createdAt().toString(),
+                cursor.id().toString());
+    }
+
+    private static TipFeedCursor decodeCursor(String cursor) {
+        List<String> values = CursorCodec.decode(cursor, 5);
+        try {
+            return new TipFeedCursor(
+                    new BigDecimal(values.get(0)),
+                    new BigDecimal(values.get(1)),
+                    values.get(2).isEmpty() ? null : OffsetDateTime.parse(values.get(2)),
+                    OffsetDateTime.parse(values.get(3)),
+                    UUID.fromString(values.get(4)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new ValidateException("Invalid cursor", List.of("The cursor is malformed or expired, restart from the first page"));
+        }
+    }
+
+    // Loads the feed rows of an ID page, keeping the given order
+    private List<TipFeedRow> findRowsInOrder(List<UUID> tipIds) {
+        if (tipIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, TipFeedRow> rowsById = tipFeedRepository.findByTipIds(tipIds).stream()
+                .collect(Collectors.toMap(TipFeedRow::tipId, row -> row));
+        return tipIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static TipResponse mapToResponse(TipFeedRow row) {
+        TipResponse response = new TipResponse();
+        response.setId(row.tipId());
+        response.setTitle(row.title());
+        response.setDescription(row.description());
+        response.setPrice(row.price());
+        response.setTotalOdds(row.totalOdds());
+        response.setStatus(row.status().name());
+        response.setPurchasesCount(row.purchasesCount());
+        response.setPublishedAt(row.publishedAt());
+        response.setEarliestMatchDate(row.earliestMatchDate());
+        response.setCreatedAt(row.createdAt());
+
+        // Display name and avatar were resolved (user, else tipster profile) when the feed row was written
+        TipResponse.TipsterBasicInfo tipsterInfo = new TipResponse.TipsterBasicInfo();
+        tipsterInfo.setId(row.tipsterId());
+        tipsterInfo.setDisplayName(row.tipsterDisplayName());
+        tipsterInfo.setAvatarUrl(row.tipsterAvatarUrl());
+        tipsterInfo.setIsVerified(row.tipsterIsVerified());
+        tipsterInfo.setRating(row.tipsterRating());
+        tipsterInfo.setSuccessRate(row.tipsterSuccessRate());
+        tipsterInfo.setTotalTips(row.tipsterTotalTips());
+        response.setTipster(tipsterInfo);
+
         return response;
     }
-}
\ No newline at end of file
+}
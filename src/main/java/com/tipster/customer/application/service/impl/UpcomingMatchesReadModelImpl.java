@@ -0,0 +1,231 @@
+package com.tipster.customer.application.service.impl;
+
+import com.tipster.customer.application.events.MatchDataChangedEvent;
+import com.tipster.customer.application.events.UpcomingMatchesRefreshedEvent;
+import com.tipster.customer.application.mappers.MatchResponseMapper;
+import com.tipster.customer.application.service.UpcomingMatchesReadModel;
+import com.tipster.customer.domain.enums.MatchStatusType;
+import com.tipster.customer.domain.models.MatchKeysetCursor;
+import com.tipster.customer.domain.models.MatchListingRow;
+import com.tipster.customer.domain.models.dto.MatchBasicResponse;
+import com.tipster.customer.domain.models.dto.MatchDetailedResponse;
+import com.tipster.customer.domain.repository.MatchDataRepository;
+import com.tipster.customer.infrastructure.utils.CursorCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Read model of upcoming fixtures: one immutable timeline per league, sorted by (kickoff, id), plus one for all leagues
+ * Lookups binary-search the first fixture at or after "now" and return a view of the rest, without touching the DB
+ * 
+ * The pre-built response objects are shared between requests and must not be mutated by callers
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UpcomingMatchesReadModelImpl implements UpcomingMatchesReadModel {
+
+    private final MatchDataRepository matchDataRepository;
+    private final MatchResponseMapper matchResponseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Null until the first build succeeded; replaced as a whole, never modified
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        try {
+            List<MatchListingRow> matches = matchDataRepository.findUpcomingMatches(OffsetDateTime.now(), MatchStatusType.scheduled);
+
+            Map<UUID, List<MatchListingRow>> matchesByLeague = new HashMap<>();
+            Map<String, UUID> leagueIdsByExternalId = new HashMap<>();
+            for (MatchListingRow match : matches) {
+                matchesByLeague.computeIfAbsent(match.leagueId(), id -> new ArrayList<>()).add(match);
+                leagueIdsByExternalId.put(match.leagueExternalId(), match.leagueId());
+            }
+
+            Map<UUID, FixtureTimeline> timelines = new HashMap<>();
+            matchesByLeague.forEach((leagueId, leagueMatches) -> timelines.put(leagueId, toTimeline(leagueMatches)));
+
+            snapshot = new Snapshot(Map.copyOf(timelines), Map.copyOf(leagueIdsByExternalId), FixtureTimeline.merge(timelines.values()));
+            log.info("Built upcoming matches read model: {} matches in {} leagues", matches.size(), timelines.size());
+            eventPublisher.publishEvent(new UpcomingMatchesRefreshedEvent(null));
+        } catch (Exception e) {
+            log.error("Failed to build upcoming matches read model: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replace the timeline of the synced league only
+     */
+    @EventListener
+    public synchronized void onMatchDataChanged(MatchDataChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            return;
+        }
+
+        try {
+            List<MatchListingRow> matches = matchDataRepository.findUpcomingMatchesByLeague(
+                    event.leagueId(), OffsetDateTime.now(), MatchStatusType.scheduled);
+
+            Map<UUID, FixtureTimeline> timelines = new HashMap<>(current.timelinesByLeague());
+            Map<String, UUID> leagueIdsByExternalId = new HashMap<>(current.leagueIdsByExternalId());
+            if (matches.isEmpty()) {
+                timelines.remove(event.leagueId());
+            } else {
+                timelines.put(event.leagueId(), toTimeline(matches));
+            }
+            leagueIdsByExternalId.put(event.leagueExternalId(), event.leagueId());
+
+            snapshot = new Snapshot(Map.copyOf(timelines), Map.copyOf(leagueIdsByExternalId), FixtureTimeline.merge(timelines.values()));
+            log.debug("Patched upcoming matches read model for league {}: {} matches", event.leagueExternalId(), matches.size());
+            eventPublisher.publishEvent(new UpcomingMatchesRefreshedEvent(event.leagueId()));
+        } catch (Exception e) {
+            // Keep serving the previous snapshot; the next sync patches again
+            log.error("Failed to patch upcoming matches read model for league {}: {}", event.leagueExternalId(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Slice> findUpcomingPage(UUID leagueId, String leagueExternalId, boolean detailed,
+                                            OffsetDateTime from, OffsetDateTime to, MatchKeysetCursor after, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (leagueExternalId != null) {
+            leagueId = current.leagueIdsByExternalId().get(leagueExternalId);
+            if (leagueId == null) {
+                return Optional.of(new Slice(List.of(), null));
+            }
+        }
+        FixtureTimeline timeline = leagueId != null ? current.timelinesByLeague().get(leagueId) : current.all();
+        if (timeline == null) {
+            return Optional.of(new Slice(List.of(), null));
+        }
+        return Optional.of(timeline.page(from, to, after, limit, detailed));
+    }
+
+    // Matches must be ordered by (kickoff, id)
+    private FixtureTimeline toTimeline(List<MatchListingRow> matchesByKickoff) {
+        int size = matchesByKickoff.size();
+        long[] kickoffs = new long[size];
+        UUID[] ids = new UUID[size];
+        MatchBasicResponse[] basic = new MatchBasicResponse[size];
+        MatchDetailedResponse[] detailed = new MatchDetailedResponse[size];
+        for (int i = 0; i < size; i++) {
+            MatchListingRow match = matchesByKickoff.get(i);
+            kickoffs[i] = match.matchDatetime().toInstant().toEpochMilli();
+            ids[i] = match.id();
+            basic[i] = matchResponseMapper.toBasicResponse(match);
+            detailed[i] = matchResponseMapper.toDetailedResponse(match);
+        }
+        return new FixtureTimeline(kickoffs, ids, basic, detailed);
+    }
+
+    private record Snapshot(Map<UUID, FixtureTimeline> timelinesByLeague,
+                            Map<String, UUID> leagueIdsByExternalId,
+                            FixtureTimeline all) {
+    }
+
+    /**
+     * Parallel arrays sorted by kickoff (epoch millis), then by id in PostgreSQL uuid order
+     */
+    private record FixtureTimeline(long[] kickoffs, UUID[] ids, MatchBasicResponse[] basic, MatchDetailedResponse[] detailed) {
+
+        Slice page(OffsetDateTime from, OffsetDateTime to, MatchKeysetCursor after, int limit, boolean detailedResponses) {
+            int start = firstIndexAtOrAfter(from.toInstant().toEpochMilli());
+            if (after != null) {
+                start = Math.max(start, firstIndexAfter(after.matchDatetime().toInstant().toEpochMilli(), after.id()));
+            }
+            int end = firstIndexAtOrAfter(to.toInstant().toEpochMilli() + 1);
+            if (start >= end) {
+                return new Slice(List.of(), null);
+            }
+
+            int pageEnd = Math.min(end, start + limit);
+            Object[] responses = detailedResponses ? detailed : basic;
+            List<?> items = Collections.unmodifiableList(Arrays.asList(responses).subList(start, pageEnd));
+            MatchKeysetCursor next = pageEnd < end
+                    ? new MatchKeysetCursor(OffsetDateTime.ofInstant(Instant.ofEpochMilli(kickoffs[pageEnd - 1]), ZoneOffset.UTC), ids[pageEnd - 1])
+                    : null;
+            return new Slice(items, next);
+        }
+
+        // First position whose (kickoff, id) sorts strictly after the given key
+        private int firstIndexAfter(long epochMillis, UUID id) {
+            int low = 0;
+            int high = kickoffs.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int comparison = kickoffs[mid] != epochMillis
+                        ? Long.compare(kickoffs[mid], epochMillis)
+                        : CursorCodec.compareUuids(ids[mid], id);
+                if (comparison <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // Lower bound: first kickoff >= instant
+        private int firstIndexAtOrAfter(long epochMillis) {
+            int low = 0;
+            int high = kickoffs.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (kickoffs[mid] < epochMillis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        static FixtureTimeline merge(Collection<FixtureTimeline> timelines) {
+            int size = 0;
+            for (FixtureTimeline timeline : timelines) {
+                size += timeline.kickoffs.length;
+            }
+            Integer[][] positions = new Integer[size][];
+            List<FixtureTimeline> sources = new ArrayList<>(timelines);
+            int n = 0;
+            for (int t = 0; t < sources.size(); t++) {
+                for (int i = 0; i < sources.get(t).kickoffs.length; i++) {
+                    positions[n++] = new Integer[]{t, i};
+                }
+            }
+            Comparator<Integer[]> byKickoff = Comparator.comparingLong(p -> sources.get(p[0]).kickoffs[p[1]]);
+            Arrays.sort(positions, byKickoff.thenComparing(
+                    (a, b) -> CursorCodec.compareUuids(sources.get(a[0]).ids[a[1]], sources.get(b[0]).ids[b[1]])));
+
+            long[] kickoffs = new long[size];
+            UUID[] ids = new UUID[size];
+            MatchBasicResponse[] basic = new MatchBasicResponse[size];
+            MatchDetailedResponse[] detailed = new MatchDetailedResponse[size];
+            for (int i = 0; i < size; i++) {
+                FixtureTimeline source = sources.get(positions[i][0]);
+                int index = positions[i][1];
+                kickoffs[i] = source.kickoffs[index];
+                ids[i] = source.ids[index];
+                basic[i] = source.basic[index];
+                detailed[i] = source.detailed[index];
+            }
+            return new FixtureTimeline(kickoffs, ids, basic, detailed);
+        }
+    }
+}
@@ -90,9 +90,13 @@ public class MatchData {
     @Column(name = "last_synced_at")
     private OffsetDateTime lastSyncedAt;
 
-    @Column(name = "odds", columnDefinition = "TEXT")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "odds", columnDefinition = "jsonb")
     private String odds;
 
+    @Column(name = "content_fingerprint")
+    private Long contentFingerprint;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
@@ -0,0 +1,10 @@
+package com.tipster.customer.domain.enums;
+
+/**
+ * Kind of change pushed to match stream subscribers
+ */
+public enum MatchChangeType {
+    fixture,  // new upcoming match, or kickoff / status changed
+    odds,     // one market of a match changed
+    removed   // match is no longer an upcoming scheduled fixture
+}
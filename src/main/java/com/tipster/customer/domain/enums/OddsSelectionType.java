@@ -0,0 +1,31 @@
+package com.tipster.customer.domain.enums;
+
+/**
+ * Single odds value inside match_data.odds that matches can be filtered and sorted by
+ * Each value maps to a market object and a key inside it, e.g. over_under.over_2_5
+ * Only selections with an expression index in V8__Convert_match_data_odds_to_jsonb.sql belong here
+ */
+public enum OddsSelectionType {
+    home_win("match_result", "home_win"),
+    draw("match_result", "draw"),
+    away_win("match_result", "away_win"),
+    over_2_5("over_under", "over_2_5"),
+    under_2_5("over_under", "under_2_5"),
+    btts_yes("btts", "yes");
+
+    private final String market;
+    private final String key;
+
+    OddsSelectionType(String market, String key) {
+        this.market = market;
+        this.key = key;
+    }
+
+    public String getMarket() {
+        return market;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,18 @@
+package com.tipster.customer.domain.models;
+
+import com.tipster.customer.domain.enums.MatchChangeType;
+
+import java.util.UUID;
+
+/**
+ * Delta of a single match produced by a sync: one fixture change or one changed odds market
+ * market and value are null for fixture removals; value is null when a market disappeared
+ */
+public record MatchChange(
+        MatchChangeType type,
+        UUID matchId,
+        UUID leagueId,
+        String market,
+        Object value
+) {
+}
@@ -0,0 +1,10 @@
+package com.tipster.customer.domain.models;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Position in the upcoming matches listing, ordered by (match_datetime, id)
+ */
+public record MatchKeysetCursor(OffsetDateTime matchDatetime, UUID id) {
+}
@@ -0,0 +1,36 @@
+package com.tipster.customer.domain.models;
+
+import com.tipster.customer.domain.enums.MatchStatusType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Flat, read-only row of the match listing, selected with a JPQL constructor expression
+ * Carries exactly what the match responses need, so listing queries never hydrate (or dirty-check)
+ * MatchData, League and Team entities
+ */
+public record MatchListingRow(
+        UUID id,
+        String externalId,
+        OffsetDateTime matchDatetime,
+        MatchStatusType status,
+        String venue,
+        String round,
+        String season,
+        UUID leagueId,
+        String leagueExternalId,
+        String leagueName,
+        String leagueLogoUrl,
+        String leagueCountry,
+        UUID homeTeamId,
+        String homeTeamName,
+        String homeTeamShortName,
+        String homeTeamLogoUrl,
+        UUID awayTeamId,
+        String awayTeamName,
+        String awayTeamShortName,
+        String awayTeamLogoUrl,
+        String odds
+) {
+}
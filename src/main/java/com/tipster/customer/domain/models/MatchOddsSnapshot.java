@@ -0,0 +1,39 @@
+package com.tipster.customer.domain.models;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Immutable, decoded form of match_data.odds
+ * Safe to cache and share between requests; lines are ordered ascending
+ */
+public record MatchOddsSnapshot(
+        ThreeWay matchResult,
+        List<OverUnderLine> overUnder,
+        YesNo bothTeamsToScore,
+        DoubleChance doubleChance,
+        List<HandicapLine> handicap,
+        String bookmaker
+) {
+
+    public MatchOddsSnapshot {
+        overUnder = overUnder == null ? List.of() : List.copyOf(overUnder);
+        handicap = handicap == null ? List.of() : List.copyOf(handicap);
+    }
+
+    public record ThreeWay(BigDecimal home, BigDecimal draw, BigDecimal away) {
+    }
+
+    public record YesNo(BigDecimal yes, BigDecimal no) {
+    }
+
+    public record DoubleChance(BigDecimal homeOrDraw, BigDecimal homeOrAway, BigDecimal drawOrAway) {
+    }
+
+    public record OverUnderLine(BigDecimal line, BigDecimal over, BigDecimal under) {
+    }
+
+    // Line is expressed from the home side, e.g. -1.5 means home gives 1.5 goals
+    public record HandicapLine(BigDecimal line, BigDecimal home, BigDecimal away) {
+    }
+}
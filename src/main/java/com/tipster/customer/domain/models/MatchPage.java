@@ -0,0 +1,12 @@
+package com.tipster.customer.domain.models;
+
+import java.util.List;
+
+/**
+ * One page of the upcoming matches listing
+ *
+ * @param items Matches (basic or detailed responses)
+ * @param nextCursor Opaque token for the next page, null on the last page
+ */
+public record MatchPage(List<?> items, String nextCursor) {
+}
@@ -0,0 +1,19 @@
+package com.tipster.customer.domain.models;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Position in the tips feed, ordered by (tipster rating, tipster success rate, published at NULLS LAST,
+ * created at, id), all descending
+ * publishedAt is null for tips without a publication date
+ */
+public record TipFeedCursor(
+        BigDecimal tipsterRating,
+        BigDecimal tipsterSuccessRate,
+        OffsetDateTime publishedAt,
+        OffsetDateTime createdAt,
+        UUID id
+) {
+}
@@ -0,0 +1,35 @@
+package com.tipster.customer.domain.models;
+
+import com.tipster.customer.domain.enums.TipStatusType;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One row of tip_feed: a published tip with the tipster data the feed shows
+ */
+public record TipFeedRow(
+        UUID tipId,
+        UUID tipsterId,
+        String title,
+        String description,
+        BigDecimal price,
+        BigDecimal totalOdds,
+        TipStatusType status,
+        int purchasesCount,
+        OffsetDateTime publishedAt,
+        OffsetDateTime earliestMatchDate,
+        OffsetDateTime createdAt,
+        BigDecimal tipsterRating,
+        BigDecimal tipsterSuccessRate,
+        String tipsterDisplayName,
+        String tipsterAvatarUrl,
+        boolean tipsterIsVerified,
+        int tipsterTotalTips
+) {
+
+    public TipFeedCursor cursor() {
+        return new TipFeedCursor(tipsterRating, tipsterSuccessRate, publishedAt, createdAt, tipId);
+    }
+}
@@ -13,10 +13,15 @@ import java.util.List;
 @AllArgsConstructor
 public class TipsPageResponse {
     private List<TipResponse> tips;
-    private long totalElements;
-    private int totalPages;
-    private int currentPage;
+    // Null when the count was skipped (includeTotal=false or cursor mode)
+    private Long totalElements;
+    private Integer totalPages;
+    // Null in cursor mode
+    private Integer currentPage;
     private int pageSize;
+    private boolean hasNext;
+    // Token for the next page in cursor mode, null on the last page
+    private String nextCursor;
     private long freeTipsCount;
     private long availableTipsCount;
 }
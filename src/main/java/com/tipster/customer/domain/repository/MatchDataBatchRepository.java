@@ -0,0 +1,198 @@
+package com.tipster.customer.domain.repository;
+
+import com.tipster.customer.domain.enums.MatchStatusType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based persistence for match_data
+ * Writes a whole league payload with multi-row INSERT ... ON CONFLICT statements
+ * instead of a find + save round-trip per match
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchDataBatchRepository {
+
+    // Keeps each statement well below PostgreSQL's 65535 bind parameter limit
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO match_data (id, external_id, league_id, home_team_id, away_team_id, " +
+            "match_datetime, status, odds, content_fingerprint, last_synced_at, created_at, updated_at) VALUES ";
+
+    private static final String UPSERT_SET =
+            " ON CONFLICT ON CONSTRAINT uk_match_data_external_id DO UPDATE SET " +
+            "league_id = EXCLUDED.league_id, " +
+            "home_team_id = EXCLUDED.home_team_id, " +
+            "away_team_id = EXCLUDED.away_team_id, " +
+            "match_datetime = EXCLUDED.match_datetime, " +
+            "status = EXCLUDED.status, ";
+
+    // Payloads without odds keep the stored ones
+    private static final String REPLACE_ODDS = "COALESCE(EXCLUDED.odds, match_data.odds)";
+
+    // Partial payloads only carry some markets: overwrite those and keep the stored ones
+    private static final String MERGE_ODDS =
+            "CASE WHEN EXCLUDED.odds IS NULL THEN match_data.odds " +
+            "ELSE COALESCE(match_data.odds, '{}'::jsonb) || EXCLUDED.odds END";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert or update all rows in a single transaction
+     * Rows sharing an external ID are collapsed (last one wins) since PostgreSQL
+     * rejects an ON CONFLICT statement that touches the same row twice
+     *
+     * @param rows Matches to persist
+     * @return Number of inserted, updated and unchanged rows
+     */
+    @Transactional
+    public UpsertResult upsertAll(Collection<UpsertRow> rows) {
+        return upsertAll(rows, false);
+    }
+
+    /**
+     * Insert or update all rows in a single transaction
+     *
+     * @param rows Matches to persist
+     * @param mergeOdds true when rows only carry a subset of markets, so stored markets missing from them are kept
+     * @return Number of inserted, updated and unchanged rows
+     */
+    @Transactional
+    public UpsertResult upsertAll(Collection<UpsertRow> rows, boolean mergeOdds) {
+        if (rows == null || rows.isEmpty()) {
+            return new UpsertResult(0, 0, 0);
+        }
+
+        Map<String, UpsertRow> rowsByExternalId = new LinkedHashMap<>();
+        for (UpsertRow row : rows) {
+            rowsByExternalId.put(row.externalId(), row);
+        }
+
+        List<UpsertRow> uniqueRows = new ArrayList<>(rowsByExternalId.values());
+        int inserted = 0;
+        int updated = 0;
+
+        for (int from = 0; from < uniqueRows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<UpsertRow> chunk = uniqueRows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, uniqueRows.size()));
+            List<Boolean> insertedFlags = upsertChunk(chunk, mergeOdds);
+            for (Boolean insertedFlag : insertedFlags) {
+                if (Boolean.TRUE.equals(insertedFlag)) {
+                    inserted++;
+                } else {
+                    updated++;
+                }
+            }
+        }
+
+        int unchanged = uniqueRows.size() - inserted - updated;
+        return new UpsertResult(inserted, updated, unchanged);
+    }
+
+    private List<Boolean> upsertChunk(List<UpsertRow> chunk, boolean mergeOdds) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            UpsertRow row = chunk.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i)
+                    .append(", :externalId").append(i)
+                    .append(", :leagueId").append(i)
+                    .append(", :homeTeamId").append(i)
+                    .append(", :awayTeamId").append(i)
+                    .append(", :matchDatetime").append(i)
+                    .append(", CAST(:status").append(i).append(" AS match_status_type)")
+                    .append(", CAST(:odds").append(i).append(" AS jsonb)")
+                    .append(", ").append(fingerprint(
+                            ":leagueId" + i,
+                            ":homeTeamId" + i,
+                            ":awayTeamId" + i,
+                            "CAST(:matchDatetime" + i + " AS timestamptz)",
+                            "CAST(:status" + i + " AS match_status_type)",
+                            "CAST(:odds" + i + " AS jsonb)"))
+                    .append(", :lastSyncedAt").append(i)
+                    .append(", :now, :now)");
+
+            params.addValue("id" + i, UUID.randomUUID());
+            params.addValue("externalId" + i, row.externalId());
+            params.addValue("leagueId" + i, row.leagueId());
+            params.addValue("homeTeamId" + i, row.homeTeamId());
+            params.addValue("awayTeamId" + i, row.awayTeamId());
+            params.addValue("matchDatetime" + i, row.matchDatetime());
+            params.addValue("status" + i, row.status().name());
+            params.addValue("odds" + i, row.odds(), Types.VARCHAR);
+            params.addValue("lastSyncedAt" + i, row.lastSyncedAt());
+        }
+        params.addValue("now", now);
+        // The fingerprint is computed from the odds the row ends up with (kept or merged), not from the payload,
+        // so it only repeats when the stored content does. Rows whose fingerprint did not change are not touched at all
+        // (no dead tuple, no WAL) and are not returned; xmax is 0 only for freshly inserted tuples
+        String storedOdds = mergeOdds ? MERGE_ODDS : REPLACE_ODDS;
+        String storedFingerprint = fingerprint("EXCLUDED.league_id", "EXCLUDED.home_team_id", "EXCLUDED.away_team_id",
+                "EXCLUDED.match_datetime", "EXCLUDED.status", storedOdds);
+        sql.append(UPSERT_SET)
+                .append("odds = ").append(storedOdds).append(", ")
+                .append("content_fingerprint = ").append(storedFingerprint).append(", ")
+                .append("last_synced_at = EXCLUDED.last_synced_at, ")
+                .append("updated_at = EXCLUDED.updated_at ")
+                .append("WHERE match_data.content_fingerprint IS DISTINCT FROM ").append(storedFingerprint)
+                .append(" RETURNING (xmax = 0) AS inserted");
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> rs.getBoolean("inserted"));
+    }
+
+    // 64-bit hash of the synced fields; jsonb renders with normalized key order and the kickoff as epoch,
+    // so the result does not depend on the payload's formatting or the session time zone
+    private static String fingerprint(String leagueId, String homeTeamId, String awayTeamId,
+                                      String matchDatetime, String status, String odds) {
+        return "hashtextextended(concat_ws('|', " +
+                "COALESCE(CAST(" + leagueId + " AS text), ''), " +
+                "COALESCE(CAST(" + homeTeamId + " AS text), ''), " +
+                "COALESCE(CAST(" + awayTeamId + " AS text), ''), " +
+                "COALESCE(CAST(extract(epoch FROM " + matchDatetime + ") AS text), ''), " +
+                "COALESCE(CAST(" + status + " AS text), ''), " +
+                "COALESCE(CAST(" + odds + " AS text), '')), 0)";
+    }
+
+    /**
+     * A single match_data row as produced by the sync
+     * odds may be null, in which case previously stored odds are kept
+     */
+    public record UpsertRow(
+            String externalId,
+            UUID leagueId,
+            UUID homeTeamId,
+            UUID awayTeamId,
+            OffsetDateTime matchDatetime,
+            MatchStatusType status,
+            String odds,
+            OffsetDateTime lastSyncedAt
+    ) {
+    }
+
+    public record UpsertResult(int inserted, int updated, int unchanged) {
+        public int changed() {
+            return inserted + updated;
+        }
+
+        public int total() {
+            return inserted + updated + unchanged;
+        }
+    }
+}
@@ -2,12 +2,15 @@ package com.tipster.customer.domain.repository;
 
 import com.tipster.customer.domain.entities.MatchData;
 import com.tipster.customer.domain.enums.MatchStatusType;
+import com.tipster.customer.domain.models.MatchListingRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +20,14 @@ import java.util.UUID;
  */
 @Repository
 public interface MatchDataRepository extends JpaRepository<MatchData, UUID> {
+
+    // Constructor expression for MatchListingRow, used by all listing queries (aliases m, l, h, a)
+    String LISTING_ROW = "new com.tipster.customer.domain.models.MatchListingRow(" +
+           "m.id, m.externalId, m.matchDatetime, m.status, m.venue, m.round, m.season, " +
+           "l.id, l.externalId, l.name, l.logoUrl, l.country, " +
+           "h.id, h.name, h.shortName, h.logoUrl, " +
+           "a.id, a.name, a.shortName, a.logoUrl, " +
+           "m.odds)";
     
     /**
      * Find a match by its external ID (from The Odds API)
@@ -41,14 +52,14 @@ public interface MatchDataRepository extends JpaRepository<MatchData, UUID> {
      * @param status The match status to filter by
      * @return List of upcoming matches
      */
-    @Query("SELECT m FROM MatchData m " +
-           "JOIN FETCH m.league l " +
-           "JOIN FETCH m.homeTeam " +
-           "JOIN FETCH m.awayTeam " +
+    @Query("SELECT " + LISTING_ROW + " FROM MatchData m " +
+           "JOIN m.league l " +
+           "JOIN m.homeTeam h " +
+           "JOIN m.awayTeam a " +
            "WHERE m.matchDatetime >= :fromDate " +
            "AND m.status = :status " +
-           "ORDER BY m.matchDatetime ASC")
-    List<MatchData> findUpcomingMatches(
+           "ORDER BY m.matchDatetime ASC, m.id ASC")
+    List<MatchListingRow> findUpcomingMatches(
         @Param("fromDate") OffsetDateTime fromDate,
         @Param("status") MatchStatusType status
     );
@@ -61,39 +72,110 @@ public interface MatchDataRepository extends JpaRepository<MatchData, UUID> {
      * @param status The match status to filter by
      * @return List of upcoming matches for the league
      */
-    @Query("SELECT m FROM MatchData m " +
-           "JOIN FETCH m.league l " +
-           "JOIN FETCH m.homeTeam " +
-           "JOIN FETCH m.awayTeam " +
-           "WHERE m.league.id = :leagueId " +
+    @Query("SELECT " + LISTING_ROW + " FROM MatchData m " +
+           "JOIN m.league l " +
+           "JOIN m.homeTeam h " +
+           "JOIN m.awayTeam a " +
+           "WHERE l.id = :leagueId " +
            "AND m.matchDatetime >= :fromDate " +
            "AND m.status = :status " +
-           "ORDER BY m.matchDatetime ASC")
-    List<MatchData> findUpcomingMatchesByLeague(
+           "ORDER BY m.matchDatetime ASC, m.id ASC")
+    List<MatchListingRow> findUpcomingMatchesByLeague(
         @Param("leagueId") UUID leagueId,
         @Param("fromDate") OffsetDateTime fromDate,
         @Param("status") MatchStatusType status
     );
     
     /**
-     * Find upcoming matches by league external ID
+     * Find listing rows of matches by ID
+     * 
+     * @param ids Match IDs
+     * @return Matches in no particular order
+     */
+    @Query("SELECT " + LISTING_ROW + " FROM MatchData m " +
+           "JOIN m.league l " +
+           "JOIN m.homeTeam h " +
+           "JOIN m.awayTeam a " +
+           "WHERE m.id IN :ids")
+    List<MatchListingRow> findListingRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Keyset page of upcoming matches: rows after (cursorDatetime, cursorId) inside [fromDate, toDate],
+     * ordered by (match_datetime, id) so the scan follows idx_match_data_datetime_status
      * 
-     * @param leagueExternalId The league external ID
      * @param fromDate The minimum match datetime
+     * @param toDate The maximum match datetime
+     * @param cursorDatetime Match datetime of the last row of the previous page
+     * @param cursorId ID of the last row of the previous page
      * @param status The match status to filter by
-     * @return List of upcoming matches for the league
+     * @param pageable Page size (offset must be 0)
+     * @return Next rows of the listing
+     */
+    @Query("SELECT " + LISTING_ROW + " FROM MatchData m " +
+           "JOIN m.league l " +
+           "JOIN m.homeTeam h " +
+           "JOIN m.awayTeam a " +
+           "WHERE m.matchDatetime >= :fromDate " +
+           "AND m.matchDatetime <= :toDate " +
+           "AND (m.matchDatetime > :cursorDatetime OR (m.matchDatetime = :cursorDatetime AND m.id > :cursorId)) " +
+           "AND m.status = :status " +
+           "ORDER BY m.matchDatetime ASC, m.id ASC")
+    List<MatchListingRow> findUpcomingMatchesPage(
+        @Param("fromDate") OffsetDateTime fromDate,
+        @Param("toDate") OffsetDateTime toDate,
+        @Param("cursorDatetime") OffsetDateTime cursorDatetime,
+        @Param("cursorId") UUID cursorId,
+        @Param("status") MatchStatusType status,
+        Pageable pageable
+    );
+
+    /**
+     * Keyset page of upcoming matches for a league
+     * 
+     * @see #findUpcomingMatchesPage
+     */
+    @Query("SELECT " + LISTING_ROW + " FROM MatchData m " +
+           "JOIN m.league l " +
+           "JOIN m.homeTeam h " +
+           "JOIN m.awayTeam a " +
+           "WHERE l.id = :leagueId " +
+           "AND m.matchDatetime >= :fromDate " +
+           "AND m.matchDatetime <= :toDate " +
+           "AND (m.matchDatetime > :cursorDatetime OR (m.matchDatetime = :cursorDatetime AND m.id > :cursorId)) " +
+           "AND m.status = :status " +
+           "ORDER BY m.matchDatetime ASC, m.id ASC")
+    List<MatchListingRow> findUpcomingMatchesPageByLeague(
+        @Param("leagueId") UUID leagueId,
+        @Param("fromDate") OffsetDateTime fromDate,
+        @Param("toDate") OffsetDateTime toDate,
+        @Param("cursorDatetime") OffsetDateTime cursorDatetime,
+        @Param("cursorId") UUID cursorId,
+        @Param("status") MatchStatusType status,
+        Pageable pageable
+    );
+
+    /**
+     * Keyset page of upcoming matches for a league external ID
+     * 
+     * @see #findUpcomingMatchesPage
      */
-    @Query("SELECT m FROM MatchData m " +
-           "JOIN FETCH m.league l " +
-           "JOIN FETCH m.homeTeam " +
-           "JOIN FETCH m.awayTeam " +
-           "WHERE m.league.externalId = :leagueExternalId " +
+    @Query("SELECT " + LISTING_ROW + " FROM MatchData m " +
+           "JOIN m.league l " +
+           "JOIN m.homeTeam h " +
+           "JOIN m.awayTeam a " +
+           "WHERE l.externalId = :leagueExternalId " +
            "AND m.matchDatetime >= :fromDate " +
+           "AND m.matchDatetime <= :toDate " +
+           "AND (m.matchDatetime > :cursorDatetime OR (m.matchDatetime = :cursorDatetime AND m.id > :cursorId)) " +
            "AND m.status = :status " +
-           "ORDER BY m.matchDatetime ASC")
-    List<MatchData> findUpcomingMatchesByLeagueExternalId(
+           "ORDER BY m.matchDatetime ASC, m.id ASC")
+    List<MatchListingRow> findUpcomingMatchesPageByLeagueExternalId(
         @Param("leagueExternalId") String leagueExternalId,
         @Param("fromDate") OffsetDateTime fromDate,
-        @Param("status") MatchStatusType status
+        @Param("toDate") OffsetDateTime toDate,
+        @Param("cursorDatetime") OffsetDateTime cursorDatetime,
+        @Param("cursorId") UUID cursorId,
+        @Param("status") MatchStatusType status,
+        Pageable pageable
     );
 }
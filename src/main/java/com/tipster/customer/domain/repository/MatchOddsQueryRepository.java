@@ -0,0 +1,59 @@
+package com.tipster.customer.domain.repository;
+
+import com.tipster.customer.domain.enums.MatchStatusType;
+import com.tipster.customer.domain.enums.OddsSelectionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Odds filters evaluated in SQL against match_data.odds (jsonb)
+ * The odds expression is written out literally (market and key come from OddsSelectionType, never from user input)
+ * so PostgreSQL can use the matching expression index from V8
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchOddsQueryRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * IDs of upcoming matches whose selected odds are above a price, best price first
+     *
+     * @param selection Odds value to filter on (e.g. over_2_5)
+     * @param priceAbove Exclusive lower bound for the price
+     * @param fromDate The minimum match datetime
+     * @param status The match status to filter by
+     * @param limit Maximum number of IDs to return
+     * @return Match IDs ordered by price descending, then kickoff ascending
+     */
+    public List<UUID> findUpcomingMatchIdsByOddsAbove(OddsSelectionType selection, BigDecimal priceAbove,
+                                                      OffsetDateTime fromDate, MatchStatusType status, int limit) {
+        String price = oddsExpression(selection);
+        String sql = "SELECT id FROM match_data " +
+                "WHERE match_datetime >= :fromDate " +
+                "AND status = CAST(:status AS match_status_type) " +
+                "AND " + price + " > :priceAbove " +
+                "ORDER BY " + price + " DESC, match_datetime ASC " +
+                "LIMIT :limit";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromDate", fromDate)
+                .addValue("status", status.name())
+                .addValue("priceAbove", priceAbove)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.queryForList(sql, params, UUID.class);
+    }
+
+    // Must stay identical to the indexed expressions in V8__Convert_match_data_odds_to_jsonb.sql
+    private static String oddsExpression(OddsSelectionType selection) {
+        return "((odds -> '" + selection.getMarket() + "' ->> '" + selection.getKey() + "')::numeric)";
+    }
+}
@@ -0,0 +1,87 @@
+package com.tipster.customer.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Set-based access to team_aliases
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamAliasRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO team_aliases (id, team_id, alias_normalized, alias, created_at) VALUES ";
+
+    // An alias already claimed by a team keeps pointing at that team
+    private static final String INSERT_SUFFIX =
+            " ON CONFLICT ON CONSTRAINT uk_team_aliases_alias_normalized DO NOTHING";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Stream every stored alias
+     *
+     * @param consumer Receives (normalized alias, team ID)
+     */
+    public void forEachAlias(BiConsumer<String, UUID> consumer) {
+        jdbcTemplate.query("SELECT alias_normalized, team_id FROM team_aliases", (RowCallbackHandler) rs ->
+                consumer.accept(rs.getString("alias_normalized"), rs.getObject("team_id", UUID.class)));
+    }
+
+    /**
+     * Stream every team name, so teams without stored aliases are still resolvable by name
+     *
+     * @param consumer Receives (team name, team ID)
+     */
+    public void forEachTeamName(BiConsumer<String, UUID> consumer) {
+        jdbcTemplate.query("SELECT id, name FROM teams", (RowCallbackHandler) rs ->
+                consumer.accept(rs.getString("name"), rs.getObject("id", UUID.class)));
+    }
+
+    /**
+     * Store aliases that are not known yet
+     *
+     * @param aliases New aliases, one per normalized form
+     */
+    public void insertMissing(Collection<NewAlias> aliases) {
+        if (aliases == null || aliases.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        int i = 0;
+        for (NewAlias alias : aliases) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i)
+                    .append(", :teamId").append(i)
+                    .append(", :aliasNormalized").append(i)
+                    .append(", :alias").append(i)
+                    .append(", :now)");
+
+            params.addValue("id" + i, UUID.randomUUID());
+            params.addValue("teamId" + i, alias.teamId());
+            params.addValue("aliasNormalized" + i, alias.aliasNormalized());
+            params.addValue("alias" + i, alias.alias());
+            i++;
+        }
+        params.addValue("now", OffsetDateTime.now());
+        sql.append(INSERT_SUFFIX);
+
+        jdbcTemplate.update(sql.toString(), params);
+    }
+
+    public record NewAlias(UUID teamId, String aliasNormalized, String alias) {
+    }
+}
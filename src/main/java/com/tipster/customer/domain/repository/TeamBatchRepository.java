@@ -0,0 +1,84 @@
+package com.tipster.customer.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based inserts for teams
+ * Creates every missing team of a sync payload in a single statement
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamBatchRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO teams (id, external_id, name, country, created_at, updated_at) VALUES ";
+
+    // Teams created concurrently by another sync are skipped instead of failing the statement
+    private static final String INSERT_SUFFIX =
+            " ON CONFLICT ON CONSTRAINT uk_teams_external_id DO NOTHING RETURNING id, external_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert teams that do not exist yet
+     *
+     * @param teams New teams to create, one per external ID
+     * @return Generated IDs keyed by external ID, only for rows this call actually inserted
+     */
+    public Map<String, UUID> insertMissing(Collection<NewTeam> teams) {
+        if (teams == null || teams.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, NewTeam> teamsByExternalId = new LinkedHashMap<>();
+        for (NewTeam team : teams) {
+            teamsByExternalId.putIfAbsent(team.externalId(), team);
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        int i = 0;
+        for (NewTeam team : teamsByExternalId.values()) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i)
+                    .append(", :externalId").append(i)
+                    .append(", :name").append(i)
+                    .append(", :country").append(i)
+                    .append(", :now, :now)");
+
+            params.addValue("id" + i, UUID.randomUUID());
+            params.addValue("externalId" + i, team.externalId());
+            params.addValue("name" + i, team.name());
+            params.addValue("country" + i, team.country(), Types.VARCHAR);
+            i++;
+        }
+        params.addValue("now", OffsetDateTime.now());
+        sql.append(INSERT_SUFFIX);
+
+        List<Map.Entry<String, UUID>> created = jdbcTemplate.query(sql.toString(), params,
+                (rs, rowNum) -> Map.entry(rs.getString("external_id"), rs.getObject("id", UUID.class)));
+
+        Map<String, UUID> idsByExternalId = new HashMap<>();
+        for (Map.Entry<String, UUID> entry : created) {
+            idsByExternalId.put(entry.getKey(), entry.getValue());
+        }
+        return idsByExternalId;
+    }
+
+    public record NewTeam(String externalId, String name, String country) {
+    }
+}
@@ -4,6 +4,8 @@ import com.tipster.customer.domain.entities.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +13,15 @@ import java.util.UUID;
 public interface TeamRepository extends JpaRepository<Team, UUID> {
     Optional<Team> findByExternalId(String externalId);
     Optional<Team> findByName(String name);
+
+    /**
+     * Bulk lookup used by the match sync to resolve every team of a payload in one query
+     *
+     * @param names Team names as sent by the provider
+     * @param externalIds Normalized external IDs for the same teams
+     * @return Teams matching any of the names or external IDs
+     */
+    List<Team> findByNameInOrExternalIdIn(Collection<String> names, Collection<String> externalIds);
+
+    List<Team> findByExternalIdIn(Collection<String> externalIds);
 }
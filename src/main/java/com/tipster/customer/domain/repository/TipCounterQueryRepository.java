@@ -0,0 +1,82 @@
+package com.tipster.customer.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-tip inputs of the tip counters: price and the state of the tip's selections
+ */
+@Repository
+@RequiredArgsConstructor
+public class TipCounterQueryRepository {
+
+    private static final String STATE_SELECT =
+            "SELECT t.id, t.price = 0 AS free, " +
+            "COALESCE(BOOL_AND(m.status = 'scheduled'), true) AS all_scheduled, " +
+            "MIN(m.match_date) AS earliest_kickoff " +
+            "FROM tips t " +
+            "LEFT JOIN tip_selections ts ON ts.tip_id = t.id " +
+            "LEFT JOIN matches m ON m.id = ts.match_id " +
+            "WHERE t.is_published = true ";
+
+    private static final String STATE_GROUP_BY = " GROUP BY t.id, t.price";
+
+    private static final RowMapper<TipCounterState> STATE_MAPPER = (rs, rowNum) -> new TipCounterState(
+            rs.getObject("id", UUID.class),
+            rs.getBoolean("free"),
+            rs.getBoolean("all_scheduled"),
+            rs.getObject("earliest_kickoff", OffsetDateTime.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * State of every published tip
+     */
+    public List<TipCounterState> findAllPublishedStates() {
+        return jdbcTemplate.query(STATE_SELECT + STATE_GROUP_BY, STATE_MAPPER);
+    }
+
+    /**
+     * State of the given tips; tips that are not (or no longer) published are absent from the result
+     */
+    public List<TipCounterState> findPublishedStates(Collection<UUID> tipIds) {
+        if (tipIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(STATE_SELECT + "AND t.id IN (:tipIds)" + STATE_GROUP_BY,
+                new MapSqlParameterSource("tipIds", tipIds), STATE_MAPPER);
+    }
+
+    /**
+     * Tips whose own row, one of their selections, or one of their matches changed since the given time
+     */
+    public List<UUID> findTipIdsChangedSince(OffsetDateTime since) {
+        String sql = "SELECT id FROM tips WHERE updated_at > :since " +
+                "UNION SELECT tip_id FROM tip_selections WHERE updated_at > :since " +
+                "UNION SELECT ts.tip_id FROM tip_selections ts JOIN matches m ON m.id = ts.match_id " +
+                "WHERE m.updated_at > :since";
+        return jdbcTemplate.queryForList(sql, new MapSqlParameterSource("since", since), UUID.class);
+    }
+
+    /**
+     * Database clock, so change detection does not depend on clock skew between app and DB
+     */
+    public OffsetDateTime currentTimestamp() {
+        return jdbcTemplate.getJdbcTemplate().queryForObject("SELECT CURRENT_TIMESTAMP", OffsetDateTime.class);
+    }
+
+    /**
+     * @param allScheduled Whether all selections are on scheduled matches (true without selections)
+     * @param earliestKickoff First kickoff among the selections, null without selections
+     */
+    public record TipCounterState(UUID tipId, boolean free, boolean allScheduled, OffsetDateTime earliestKickoff) {
+    }
+}
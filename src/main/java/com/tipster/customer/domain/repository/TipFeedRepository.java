@@ -0,0 +1,154 @@
+package com.tipster.customer.domain.repository;
+
+import com.tipster.customer.domain.enums.TipStatusType;
+import com.tipster.customer.domain.models.TipFeedCursor;
+import com.tipster.customer.domain.models.TipFeedRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads of the published tips feed from tip_feed (V13)
+ * tip_feed holds everything a feed entry shows, and idx_tip_feed_order stores the feed order with the filter
+ * columns included, so a page is one index scan plus one heap fetch per returned row, without joins
+ */
+@Repository
+@RequiredArgsConstructor
+public class TipFeedRepository {
+
+    private static final String COLUMNS =
+            "SELECT tip_id, tipster_id, title, description, price, total_odds, status, purchases_count, " +
+            "published_at, earliest_match_date, created_at, tipster_rating, tipster_success_rate, " +
+            "tipster_display_name, tipster_avatar_url, tipster_is_verified, tipster_total_tips FROM tip_feed";
+
+    // Must match idx_tip_feed_order in V13__Create_tip_feed.sql
+    private static final String ORDER_BY =
+            " ORDER BY tipster_rating DESC, tipster_success_rate DESC, sort_published_at DESC, created_at DESC, tip_id DESC";
+
+    private static final String SORT_KEY =
+            "(tipster_rating, tipster_success_rate, sort_published_at, created_at, tip_id)";
+
+    private static final String AFTER_KEY =
+            "(:rating, :successRate, COALESCE(CAST(:publishedAt AS timestamptz), '-infinity'::timestamptz), :createdAt, :id)";
+
+    private static final RowMapper<TipFeedRow> ROW_MAPPER = (rs, rowNum) -> new TipFeedRow(
+            rs.getObject("tip_id", UUID.class),
+            rs.getObject("tipster_id", UUID.class),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getBigDecimal("price"),
+            rs.getBigDecimal("total_odds"),
+            TipStatusType.valueOf(rs.getString("status")),
+            rs.getInt("purchases_count"),
+            rs.getObject("published_at", OffsetDateTime.class),
+            rs.getObject("earliest_match_date", OffsetDateTime.class),
+            rs.getObject("created_at", OffsetDateTime.class),
+            rs.getBigDecimal("tipster_rating"),
+            rs.getBigDecimal("tipster_success_rate"),
+            rs.getString("tipster_display_name"),
+            rs.getString("tipster_avatar_url"),
+            rs.getBoolean("tipster_is_verified"),
+            rs.getInt("tipster_total_tips"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Offset page of the feed
+     *
+     * @param filter Optional filters
+     * @param offset Rows to skip
+     * @param limit Maximum number of rows
+     * @return Rows in feed order
+     */
+    public List<TipFeedRow> findPage(Filter filter, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(COLUMNS).append(" WHERE true");
+        appendFilter(sql, params, filter);
+        sql.append(ORDER_BY).append(" LIMIT :limit OFFSET :offset");
+        params.addValue("limit", limit);
+        params.addValue("offset", offset);
+        return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    /**
+     * Next rows of the feed after a position
+     *
+     * @param after Last row of the previous page, null for the first page
+     * @param filter Optional filters
+     * @param limit Maximum number of rows
+     * @return Rows in feed order
+     */
+    public List<TipFeedRow> findAfter(TipFeedCursor after, Filter filter, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(COLUMNS).append(" WHERE true");
+        if (after != null) {
+            // Row comparison against the last key: a single index range condition
+            sql.append(" AND ").append(SORT_KEY).append(" < ").append(AFTER_KEY);
+            params.addValue("rating", after.tipsterRating());
+            params.addValue("successRate", after.tipsterSuccessRate());
+            params.addValue("publishedAt", after.publishedAt(), Types.TIMESTAMP_WITH_TIMEZONE);
+            params.addValue("createdAt", after.createdAt());
+            params.addValue("id", after.id());
+        }
+        appendFilter(sql, params, filter);
+        sql.append(ORDER_BY).append(" LIMIT :limit");
+        params.addValue("limit", limit);
+        return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    /**
+     * Number of feed rows matching the filters
+     */
+    public long count(Filter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM tip_feed WHERE true");
+        appendFilter(sql, params, filter);
+        Long count = jdbcTemplate.queryForObject(sql.toString(), params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Feed rows of the given tips, in no particular order; unpublished tips are absent
+     */
+    public List<TipFeedRow> findByTipIds(Collection<UUID> tipIds) {
+        if (tipIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(COLUMNS + " WHERE tip_id IN (:tipIds)",
+                new MapSqlParameterSource("tipIds", tipIds), ROW_MAPPER);
+    }
+
+    private static void appendFilter(StringBuilder sql, MapSqlParameterSource params, Filter filter) {
+        if (filter.tipsterId() != null) {
+            sql.append(" AND tipster_id = :tipsterId");
+            params.addValue("tipsterId", filter.tipsterId());
+        }
+        if (filter.minPrice() != null) {
+            sql.append(" AND price >= :minPrice");
+            params.addValue("minPrice", filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            sql.append(" AND price <= :maxPrice");
+            params.addValue("maxPrice", filter.maxPrice());
+        }
+        if (filter.status() != null) {
+            sql.append(" AND status = CAST(:status AS tip_status_type)");
+            params.addValue("status", filter.status().name());
+        }
+    }
+
+    /**
+     * Feed filters, each optional
+     */
+    public record Filter(UUID tipsterId, BigDecimal minPrice, BigDecimal maxPrice, TipStatusType status) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.tipster.customer.domain.repository;
+
+import com.tipster.customer.domain.enums.TipStatusType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Keyword search over published tips, served by the indexes from V10
+ * Every word of the keyword must match a word of title or description by prefix (tips.search_vector, GIN);
+ * keywords of at least MIN_TRIGRAM_LENGTH characters also match as a substring anywhere (trigram GIN indexes)
+ * Results are ranked by relevance, then by the regular tips ordering
+ */
+@Repository
+@RequiredArgsConstructor
+public class TipSearchRepository {
+
+    // Shorter fragments yield no trigram, so the trigram index could not narrow the scan
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * One page of tip IDs matching a keyword, plus the total number of matches
+     *
+     * @param keyword Free text typed by the user
+     * @param tipsterId Optional tipster filter
+     * @param minPrice Optional minimum price (inclusive)
+     * @param maxPrice Optional maximum price (inclusive)
+     * @param status Optional tip status filter
+     * @param offset Rows to skip
+     * @param limit Page size
+     * @return Tip IDs best match first, and the total count
+     */
+    public SearchResult search(String keyword, UUID tipsterId, BigDecimal minPrice, BigDecimal maxPrice,
+                               TipStatusType status, long offset, int limit) {
+        String tsQuery = toPrefixTsQuery(keyword);
+        String fragment = keyword.trim();
+        boolean useTrigram = fragment.length() >= MIN_TRIGRAM_LENGTH;
+        if (tsQuery == null && !useTrigram) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> matchers = new ArrayList<>(3);
+        String rank = "0";
+        if (tsQuery != null) {
+            matchers.add("t.search_vector @@ to_tsquery('simple', :tsQuery)");
+            rank = "ts_rank_cd(t.search_vector, to_tsquery('simple', :tsQuery))";
+            params.addValue("tsQuery", tsQuery);
+        }
+        if (useTrigram) {
+            matchers.add("t.title ILIKE :pattern");
+            matchers.add("t.description ILIKE :pattern");
+            rank += " + word_similarity(:fragment, t.title)";
+            params.addValue("pattern", "%" + escapeLike(fragment) + "%");
+            params.addValue("fragment", fragment);
+        }
+
+        StringBuilder where = new StringBuilder("WHERE t.is_published = true AND (")
+                .append(String.join(" OR ", matchers)).append(")");
+        appendFilters(where, params, tipsterId, minPrice, maxPrice, status);
+
+        // The window count comes with the page, so the matching rows are only searched once
+        String sql = "SELECT t.id, COUNT(*) OVER () AS total " +
+                "FROM tips t JOIN tipsters tp ON tp.id = t.tipster_id " +
+                where +
+                " ORDER BY " + rank + " DESC, tp.rating DESC, tp.success_rate DESC, " +
+                "t.published_at DESC NULLS LAST, t.created_at DESC " +
+                "LIMIT :limit OFFSET :offset";
+        params.addValue("limit", limit);
+        params.addValue("offset", offset);
+
+        List<UUID> ids = new ArrayList<>(limit);
+        long[] total = {0};
+        jdbcTemplate.query(sql, params, rs -> {
+            ids.add(rs.getObject("id", UUID.class));
+            total[0] = rs.getLong("total");
+        });
+
+        if (ids.isEmpty() && offset > 0) {
+            // Past the last page the window yields no row to read the total from
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tips t " + where, params, Long.class);
+            return new SearchResult(List.of(), count != null ? count : 0);
+        }
+        return new SearchResult(ids, total[0]);
+    }
+
+    private static void appendFilters(StringBuilder where, MapSqlParameterSource params, UUID tipsterId,
+                                      BigDecimal minPrice, BigDecimal maxPrice, TipStatusType status) {
+        if (tipsterId != null) {
+            where.append(" AND t.tipster_id = :tipsterId");
+            params.addValue("tipsterId", tipsterId);
+        }
+        if (minPrice != null) {
+            where.append(" AND t.price >= :minPrice");
+            params.addValue("minPrice", minPrice);
+        }
+        if (maxPrice != null) {
+            where.append(" AND t.price <= :maxPrice");
+            params.addValue("maxPrice", maxPrice);
+        }
+        if (status != null) {
+            where.append(" AND t.status = CAST(:status AS tip_status_type)");
+            params.addValue("status", status.name());
+        }
+    }
+
+    // "man utd" -> "man:* & utd:*"; only letters and digits reach to_tsquery, so user input cannot break its syntax
+    private static String toPrefixTsQuery(String keyword) {
+        List<String> terms = new ArrayList<>();
+        for (String word : NON_WORD.split(keyword.toLowerCase())) {
+            if (!word.isEmpty()) {
+                terms.add(word + ":*");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public record SearchResult(List<UUID> tipIds, long totalElements) {
+    }
+}
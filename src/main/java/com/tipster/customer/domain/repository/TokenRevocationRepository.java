@@ -0,0 +1,77 @@
+package com.tipster.customer.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Revoked access tokens (token_revocations, V14)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenRevocationRepository {
+
+    private static final RowMapper<TokenRevocation> REVOCATION_MAPPER = (rs, rowNum) -> new TokenRevocation(
+            rs.getObject("jti", UUID.class),
+            rs.getObject("expires_at", OffsetDateTime.class),
+            rs.getObject("revoked_at", OffsetDateTime.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Record a revocation; revoking the same token twice keeps the first row
+     */
+    public void insert(UUID jti, UUID userId, OffsetDateTime expiresAt) {
+        jdbcTemplate.update(
+                "INSERT INTO token_revocations (jti, user_id, expires_at) VALUES (:jti, :userId, :expiresAt) " +
+                "ON CONFLICT (jti) DO NOTHING",
+                new MapSqlParameterSource()
+                        .addValue("jti", jti)
+                        .addValue("userId", userId)
+                        .addValue("expiresAt", expiresAt));
+    }
+
+    /**
+     * Revocations of tokens that have not expired yet
+     */
+    public List<TokenRevocation> findUnexpired(OffsetDateTime now) {
+        return jdbcTemplate.query(
+                "SELECT jti, expires_at, revoked_at FROM token_revocations WHERE expires_at > :now",
+                new MapSqlParameterSource("now", now), REVOCATION_MAPPER);
+    }
+
+    /**
+     * Revocations recorded since the given time, including those made by other instances
+     */
+    public List<TokenRevocation> findRevokedSince(OffsetDateTime since) {
+        return jdbcTemplate.query(
+                "SELECT jti, expires_at, revoked_at FROM token_revocations WHERE revoked_at > :since",
+                new MapSqlParameterSource("since", since), REVOCATION_MAPPER);
+    }
+
+    /**
+     * Delete revocations of tokens that expired on their own
+     *
+     * @return Number of rows deleted
+     */
+    public int deleteExpired(OffsetDateTime now) {
+        return jdbcTemplate.update("DELETE FROM token_revocations WHERE expires_at <= :now",
+                new MapSqlParameterSource("now", now));
+    }
+
+    /**
+     * Database clock, so polling does not depend on clock skew between app and DB
+     */
+    public OffsetDateTime currentTimestamp() {
+        return jdbcTemplate.getJdbcTemplate().queryForObject("SELECT CURRENT_TIMESTAMP", OffsetDateTime.class);
+    }
+
+    public record TokenRevocation(UUID jti, OffsetDateTime expiresAt, OffsetDateTime revokedAt) {
+    }
+}
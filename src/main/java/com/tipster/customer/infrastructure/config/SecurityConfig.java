@@ -3,6 +3,8 @@ package com.tipster.customer.infrastructure.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tipster.customer.domain.models.ApiResponse;
 import com.tipster.customer.infrastructure.security.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -62,6 +64,10 @@ public class SecurityConfig {
                     auth.requestMatchers("/sports").permitAll(); // Allow reading sports without auth
                     auth.requestMatchers("/sports/sync/**").authenticated(); // Require auth for syncing
                     auth.requestMatchers("/leagues/**").permitAll(); // Allow reading leagues without auth
+                    // Open streams complete through an async dispatch, which carries no JWT of its own
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+                    auth.requestMatchers("/matches/stream").hasRole("TIPSTER"); // Odds deltas are tipster-only
+                    auth.requestMatchers("/matches/upcoming/by-odds").hasRole("TIPSTER"); // Filtering by price reveals the odds
                     auth.requestMatchers("/matches/**").permitAll(); // Allow reading matches without auth (role-based response)
                     auth.requestMatchers("/tips/**").permitAll(); // Allow reading tips without auth
 
@@ -105,8 +111,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int bcryptStrength) {
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
@@ -115,7 +121,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("http://localhost:5173"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Origin", "Accept", "X-Requested-With"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", "X-Next-Cursor", "ETag", "Retry-After"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,161 @@
+package com.tipster.customer.infrastructure.external.http;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Shared HTTP client for calls to external providers
+ * One pooled HttpClient (HTTP/2 preferred) with connect/request timeouts, gzip negotiation with
+ * transparent decompression and a cap on concurrent requests per host
+ */
+@Component
+@Slf4j
+public class ExternalHttpClient {
+
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final Duration requestTimeout;
+    private final int maxConcurrentRequestsPerHost;
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    public ExternalHttpClient(@Value("${http.client.connect-timeout-ms:5000}") long connectTimeoutMs,
+                              @Value("${http.client.request-timeout-ms:30000}") long requestTimeoutMs,
+                              @Value("${http.client.max-concurrent-requests-per-host:4}") int maxConcurrentRequestsPerHost) {
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * GET a URL and read the whole response
+     *
+     * @param url Absolute URL
+     * @param headers Extra request headers (may be null)
+     * @return Decompressed response, whatever its status
+     */
+    public HttpResult get(String url, Map<String, String> headers) {
+        try (HttpStreamResult response = getStream(url, headers)) {
+            String body = new String(response.body().readAllBytes(), StandardCharsets.UTF_8);
+            return new HttpResult(response.statusCode(), response.headers(), body);
+        } catch (IOException e) {
+            throw new RuntimeException("GET request failed: " + url, e);
+        }
+    }
+
+    /**
+     * GET a URL and hand back the response body as a stream
+     * Blocks until the response headers arrive; the per-host slot is held until the result is closed
+     *
+     * @param url Absolute URL
+     * @param headers Extra request headers (may be null)
+     * @return Response with a decompressed body stream, whatever its status
+     */
+    public HttpStreamResult getStream(String url, Map<String, String> headers) {
+        URI uri = URI.create(url);
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(requestTimeout)
+                .header("Accept-Encoding", "gzip")
+                .GET();
+        if (headers != null) {
+            headers.forEach(builder::header);
+        }
+
+        Semaphore permits = hostPermits.computeIfAbsent(uri.getHost(), host -> new Semaphore(maxConcurrentRequestsPerHost));
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a request slot: " + uri.getHost(), e);
+        }
+
+        HttpResponse<InputStream> response;
+        try {
+            response = client.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            permits.release();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("GET request interrupted", e);
+        } catch (Exception e) {
+            permits.release();
+            throw new RuntimeException("GET request failed", e);
+        }
+
+        InputStream body = new PermitReleasingInputStream(response.body(), permits);
+        return new HttpStreamResult(response.statusCode(), response.headers(), decode(response, body));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        client.close();
+        executor.shutdown();
+    }
+
+    private static InputStream decode(HttpResponse<?> response, InputStream body) {
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        if (!gzip) {
+            return body;
+        }
+        try {
+            return new GZIPInputStream(body);
+        } catch (IOException e) {
+            // Closing the raw body frees the connection and the host slot
+            try {
+                body.close();
+            } catch (IOException ignored) {
+                // Already failing
+            }
+            throw new RuntimeException("Failed to read gzip response", e);
+        }
+    }
+
+    // Releases the host slot exactly once, when the caller is done with the body
+    private static final class PermitReleasingInputStream extends FilterInputStream {
+
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingInputStream(InputStream in, Semaphore permits) {
+            super(in);
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.tipster.customer.infrastructure.external.http;
+
+import java.net.http.HttpHeaders;
+
+/**
+ * Fully read HTTP response (body already decompressed)
+ */
+public record HttpResult(int statusCode, HttpHeaders headers, String body) {
+
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * @return This result
+     * @throws HttpStatusException When the status is not 2xx
+     */
+    public HttpResult requireSuccessful() {
+        if (!isSuccessful()) {
+            throw new HttpStatusException(statusCode, body);
+        }
+        return this;
+    }
+}
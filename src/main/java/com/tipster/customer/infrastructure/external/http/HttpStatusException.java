@@ -0,0 +1,18 @@
+package com.tipster.customer.infrastructure.external.http;
+
+/**
+ * Non-2xx response from an external provider
+ */
+public class HttpStatusException extends RuntimeException {
+
+    private final int statusCode;
+
+    public HttpStatusException(int statusCode, String body) {
+        super("HTTP " + statusCode + (body == null || body.isBlank() ? "" : ": " + body));
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
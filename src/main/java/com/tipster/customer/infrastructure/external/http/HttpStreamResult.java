@@ -0,0 +1,42 @@
+package com.tipster.customer.infrastructure.external.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP response whose body is consumed as a stream (already decompressed)
+ * Must be closed to release the connection and the per-host request slot
+ */
+public record HttpStreamResult(int statusCode, HttpHeaders headers, InputStream body) implements AutoCloseable {
+
+    // Enough of an error body to carry the provider's message
+    private static final int ERROR_BODY_LIMIT = 512;
+
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * @return This result
+     * @throws HttpStatusException When the status is not 2xx; the result is closed first
+     */
+    public HttpStreamResult requireSuccessful() {
+        if (isSuccessful()) {
+            return this;
+        }
+        String errorBody;
+        try (this) {
+            errorBody = new String(body.readNBytes(ERROR_BODY_LIMIT), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            errorBody = null;
+        }
+        throw new HttpStatusException(statusCode, errorBody);
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
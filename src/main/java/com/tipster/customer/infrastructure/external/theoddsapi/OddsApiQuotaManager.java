@@ -0,0 +1,250 @@
+package com.tipster.customer.infrastructure.external.theoddsapi;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpHeaders;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.OptionalLong;
+
+/**
+ * Token-bucket budget for The Odds API credits
+ *
+ * The bucket refills at the rate that would spend the remaining monthly credits evenly until the
+ * next quota reset, and holds at most burst-window worth of credits. Callers reserve the estimated cost
+ * with tryAcquire before a request, so concurrent syncs cannot all spend the same credits; the response
+ * settles the reservation against the cost reported in x-requests-last and re-syncs the remaining balance
+ * from x-requests-remaining. intervalMultiplier stretches or shrinks schedules.
+ * A reported balance only holds until the quota reset after it was reported; past that reset it is
+ * forgotten and the bucket starts over from the monthly credits, even if no request was made since.
+ */
+@Component
+@Slf4j
+public class OddsApiQuotaManager {
+
+    private static final String REMAINING_HEADER = "x-requests-remaining";
+    private static final String USED_HEADER = "x-requests-used";
+    private static final String LAST_COST_HEADER = "x-requests-last";
+
+    // Above this fill level schedules run at their fastest, below it they are stretched linearly
+    private static final double FULL_SPEED_FILL_RATIO = 0.75;
+
+    private final long monthlyCredits;
+    private final long reserveCredits;
+    private final Duration burstWindow;
+    private final int resetDayOfMonth;
+    private final double minIntervalMultiplier;
+    private final double maxIntervalMultiplier;
+    private final Clock clock;
+
+    private double tokens;
+    private Instant lastRefill;
+    // Unknown until the API has answered at least once, and again after each quota reset
+    private Long remainingCredits;
+    private Long usedCredits;
+    // Quota reset following the moment remainingCredits was reported
+    private Instant balanceValidUntil;
+
+    @Autowired
+    public OddsApiQuotaManager(@Value("${the-odds-api.quota.monthly-credits:500}") long monthlyCredits,
+                               @Value("${the-odds-api.quota.reserve-credits:20}") long reserveCredits,
+                               @Value("${the-odds-api.quota.burst-window-hours:24}") long burstWindowHours,
+                               @Value("${the-odds-api.quota.reset-day-of-month:1}") int resetDayOfMonth,
+                               @Value("${the-odds-api.quota.min-interval-multiplier:0.5}") double minIntervalMultiplier,
+                               @Value("${the-odds-api.quota.max-interval-multiplier:8}") double maxIntervalMultiplier) {
+        this(monthlyCredits, reserveCredits, burstWindowHours, resetDayOfMonth, minIntervalMultiplier, maxIntervalMultiplier,
+                Clock.systemUTC());
+    }
+
+    OddsApiQuotaManager(long monthlyCredits, long reserveCredits, long burstWindowHours, int resetDayOfMonth,
+                        double minIntervalMultiplier, double maxIntervalMultiplier, Clock clock) {
+        this.monthlyCredits = monthlyCredits;
+        this.reserveCredits = reserveCredits;
+        this.burstWindow = Duration.ofHours(Math.max(1, burstWindowHours));
+        this.resetDayOfMonth = Math.min(Math.max(1, resetDayOfMonth), 28);
+        this.minIntervalMultiplier = minIntervalMultiplier;
+        this.maxIntervalMultiplier = Math.max(minIntervalMultiplier, maxIntervalMultiplier);
+        this.clock = clock;
+        this.lastRefill = clock.instant();
+        // Start half full so the first runs neither burst nor stall
+        this.tokens = capacity(lastRefill) / 2;
+    }
+
+    /**
+     * Credits charged by The Odds API for an odds request: one per market per region
+     */
+    public static int estimateCost(String regions, String markets) {
+        return countItems(regions) * countItems(markets);
+    }
+
+    /**
+     * Drain the bucket by the cost of a finished request and re-sync the remaining balance
+     *
+     * @param headers Response headers of any The Odds API call
+     */
+    public void recordResponse(HttpHeaders headers) {
+        recordResponse(headers, 0);
+    }
+
+    /**
+     * Settle a request reserved with tryAcquire: the bucket ends up drained by the actual cost
+     * (x-requests-last), or by the reservation when the API did not report one
+     *
+     * @param headers Response headers of the request
+     * @param reservedCost Credits taken by tryAcquire for this request
+     */
+    public synchronized void recordResponse(HttpHeaders headers, int reservedCost) {
+        Instant now = clock.instant();
+        refill(now);
+
+        OptionalLong lastCost = headerValue(headers, LAST_COST_HEADER);
+        OptionalLong remaining = headerValue(headers, REMAINING_HEADER);
+        OptionalLong used = headerValue(headers, USED_HEADER);
+
+        lastCost.ifPresent(cost -> tokens += reservedCost - cost);
+        if (remaining.isPresent()) {
+            remainingCredits = remaining.getAsLong();
+            balanceValidUntil = nextReset(now);
+        }
+        if (used.isPresent()) {
+            usedCredits = used.getAsLong();
+        }
+        tokens = Math.min(tokens, capacity(now));
+
+        log.debug("The Odds API quota: last cost {}, used {}, remaining {}, bucket {}/{}",
+                lastCost.isPresent() ? lastCost.getAsLong() : "n/a", usedCredits, remainingCredits,
+                String.format("%.1f", tokens), String.format("%.1f", capacity(now)));
+    }
+
+    /**
+     * Reserve the credits of a request if it fits the budget right now
+     * The check and the debit happen under one lock; settle with recordResponse(headers, cost) once the
+     * response arrives, or release(cost) if the request failed before reaching the API
+     *
+     * @return Whether the credits were reserved
+     */
+    public synchronized boolean tryAcquire(int cost) {
+        refill(clock.instant());
+        if (remainingCredits != null && remainingCredits - cost < reserveCredits) {
+            return false;
+        }
+        if (tokens < cost) {
+            return false;
+        }
+        tokens -= cost;
+        if (remainingCredits != null) {
+            // Provisional until the response reports the real balance
+            remainingCredits -= cost;
+        }
+        return true;
+    }
+
+    /**
+     * Return a reservation whose request never reached the API
+     */
+    public synchronized void release(int cost) {
+        Instant now = clock.instant();
+        refill(now);
+        tokens = Math.min(tokens + cost, capacity(now));
+        if (remainingCredits != null) {
+            remainingCredits += cost;
+        }
+    }
+
+    /**
+     * Factor to apply to a scheduled job's base interval
+     * Returns the minimum multiplier while the bucket is well filled and grows towards the maximum as it drains
+     */
+    public synchronized double intervalMultiplier() {
+        double fillRatio = fillRatio();
+        if (fillRatio >= FULL_SPEED_FILL_RATIO) {
+            return minIntervalMultiplier;
+        }
+        return maxIntervalMultiplier - (maxIntervalMultiplier - minIntervalMultiplier) * (fillRatio / FULL_SPEED_FILL_RATIO);
+    }
+
+    /**
+     * How full the bucket is, from 0 (drained) to 1 (full)
+     */
+    public synchronized double fillRatio() {
+        Instant now = clock.instant();
+        refill(now);
+        return Math.max(0, tokens) / capacity(now);
+    }
+
+    private void refill(Instant now) {
+        if (balanceValidUntil != null && !now.isBefore(balanceValidUntil)) {
+            startNewPeriod(now);
+        }
+        long elapsedMillis = Duration.between(lastRefill, now).toMillis();
+        if (elapsedMillis > 0) {
+            tokens = Math.min(capacity(now), tokens + refillRatePerSecond(now) * elapsedMillis / 1000.0);
+            lastRefill = now;
+        }
+    }
+
+    // Without this a balance stuck near the reserve would block every request, so no response could ever report the reset
+    private void startNewPeriod(Instant now) {
+        log.info("The Odds API quota reset passed, forgetting the last reported balance of {} credits", remainingCredits);
+        remainingCredits = null;
+        usedCredits = null;
+        balanceValidUntil = null;
+        lastRefill = now;
+        tokens = capacity(now) / 2;
+    }
+
+    private double capacity(Instant now) {
+        return Math.max(1, refillRatePerSecond(now) * burstWindow.toSeconds());
+    }
+
+    // Remaining spendable credits spread evenly over the time left until the quota resets
+    private double refillRatePerSecond(Instant now) {
+        long spendable = remainingCredits != null
+                ? Math.max(0, remainingCredits - reserveCredits)
+                : monthlyCredits;
+        long secondsUntilReset = Math.max(1, Duration.between(now, nextReset(now)).toSeconds());
+        return (double) spendable / secondsUntilReset;
+    }
+
+    private Instant nextReset(Instant now) {
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        Instant thisMonthReset = today.withDayOfMonth(resetDayOfMonth).atStartOfDay(ZoneOffset.UTC).toInstant();
+        if (thisMonthReset.isAfter(now)) {
+            return thisMonthReset;
+        }
+        return today.plusMonths(1).withDayOfMonth(resetDayOfMonth).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static OptionalLong headerValue(HttpHeaders headers, String name) {
+        return headers.firstValue(name)
+                .map(String::trim)
+                .map(value -> {
+                    try {
+                        // Remaining and used credits may be reported as decimals
+                        return OptionalLong.of((long) Double.parseDouble(value));
+                    } catch (NumberFormatException e) {
+                        return OptionalLong.empty();
+                    }
+                })
+                .orElse(OptionalLong.empty());
+    }
+
+    private static int countItems(String commaSeparated) {
+        if (commaSeparated == null || commaSeparated.isBlank()) {
+            return 0;
+        }
+        int count = 0;
+        for (String item : commaSeparated.split(",")) {
+            if (!item.isBlank()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
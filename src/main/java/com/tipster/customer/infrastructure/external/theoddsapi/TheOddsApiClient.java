@@ -1,10 +1,14 @@
 package com.tipster.customer.infrastructure.external.theoddsapi;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tipster.customer.domain.models.dto.OddsApiSportResponse;
-import com.tipster.customer.infrastructure.utils.HttpHelper;
+import com.tipster.customer.infrastructure.external.http.ExternalHttpClient;
+import com.tipster.customer.infrastructure.external.http.HttpResult;
+import com.tipster.customer.infrastructure.external.http.HttpStreamResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +17,7 @@ import org.springframework.stereotype.Component;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Client for interacting with The Odds API
@@ -24,6 +29,8 @@ import java.util.List;
 public class TheOddsApiClient {
 
     private final ObjectMapper objectMapper;
+    private final ExternalHttpClient httpClient;
+    private final OddsApiQuotaManager quotaManager;
 
     @Value("${the-odds-api.api-key}")
     private String apiKey;
@@ -40,7 +47,9 @@ public class TheOddsApiClient {
                     URLEncoder.encode(apiKey, StandardCharsets.UTF_8) + "&all=true";
             
             log.debug("Fetching sports from The Odds API: {}", url);
-            String responseBody = HttpHelper.get(url, null);
+            HttpResult response = httpClient.get(url, null);
+            quotaManager.recordResponse(response.headers());
+            String responseBody = response.requireSuccessful().body();
             
             List<OddsApiSportResponse> sports = objectMapper.readValue(
                     responseBody, 
@@ -71,19 +80,9 @@ public class TheOddsApiClient {
     }
 
     /**
-     * Fetches upcoming matches with odds from The Odds API
-     * 
-     * @param sportKey The sport key (e.g., "soccer_epl", "soccer_spain_la_liga")
-     * @param regions Comma-separated regions (e.g., "us", "uk", "eu")
-     * @param markets Comma-separated markets (e.g., "h2h,spreads,totals")
-     * @return JSON string response from The Odds API
-     */
-    public String fetchMatchesWithOdds(String sportKey, String regions, String markets) {
-        return fetchOdds(sportKey, regions, markets, null, null, "decimal");
-    }
-
-    /**
-     * Fetches matches with odds from The Odds API with date filtering
+     * Streams matches with odds from The Odds API
+     * The response body is read with a streaming parser and each event is handed to the consumer
+     * as soon as it is complete, so memory use is bounded by a single event instead of the whole payload
      * 
      * @param sportKey The sport key (e.g., "soccer_epl", "soccer_spain_la_liga")
      * @param regions Comma-separated regions (e.g., "us", "uk", "eu")
@@ -91,62 +90,85 @@ public class TheOddsApiClient {
      * @param commenceTimeFrom Start date in ISO 8601 format (e.g., "2024-01-12T00:00:00Z")
      * @param commenceTimeTo End date in ISO 8601 format (e.g., "2024-01-14T23:59:59Z")
      * @param oddsFormat Odds format: "decimal" or "american" (default: "decimal")
-     * @return JSON string response from The Odds API
+     * @param reservedCost Credits reserved with OddsApiQuotaManager#tryAcquire, settled (or released) here
+     * @param eventConsumer Receives each event object of the response array
+     * @return Number of events handed to the consumer
      */
-    public String fetchOdds(String sportKey, String regions, String markets, 
-                           String commenceTimeFrom, String commenceTimeTo, String oddsFormat) {
+    public int streamOdds(String sportKey, String regions, String markets,
+                          String commenceTimeFrom, String commenceTimeTo, String oddsFormat,
+                          int reservedCost, Consumer<JsonNode> eventConsumer) {
+        String url = buildOddsUrl(sportKey, regions, markets, commenceTimeFrom, commenceTimeTo, oddsFormat);
+        log.debug("Streaming matches with odds from The Odds API: {}", url);
+
+        HttpStreamResult response;
         try {
-            StringBuilder urlBuilder = new StringBuilder(BASE_URL)
-                    .append("/sports/")
-                    .append(URLEncoder.encode(sportKey, StandardCharsets.UTF_8))
-                    .append("/odds")
-                    .append("?apiKey=").append(URLEncoder.encode(apiKey, StandardCharsets.UTF_8))
-                    .append("&regions=").append(URLEncoder.encode(regions, StandardCharsets.UTF_8))
-                    .append("&markets=").append(URLEncoder.encode(markets, StandardCharsets.UTF_8))
-                    .append("&oddsFormat=").append(URLEncoder.encode(oddsFormat, StandardCharsets.UTF_8));
-            
-            // Add date filters if provided
-            if (commenceTimeFrom != null && !commenceTimeFrom.isEmpty()) {
-                urlBuilder.append("&commenceTimeFrom=")
-                        .append(URLEncoder.encode(commenceTimeFrom, StandardCharsets.UTF_8));
-            }
-            if (commenceTimeTo != null && !commenceTimeTo.isEmpty()) {
-                urlBuilder.append("&commenceTimeTo=")
-                        .append(URLEncoder.encode(commenceTimeTo, StandardCharsets.UTF_8));
-            }
-            
-            String url = urlBuilder.toString();
-            log.debug("Fetching matches with odds from The Odds API: {}", url);
-            String responseBody = HttpHelper.get(url, null);
-            
-            // Log response size for debugging
-            if (responseBody != null) {
-                log.debug("API response size: {} characters for sport: {} (markets: {})", 
-                        responseBody.length(), sportKey, markets);
-                
-                // Check if response is empty array
-                String trimmed = responseBody.trim();
-                if ("[]".equals(trimmed)) {
-                    log.debug("API returned empty array for sport: {} (markets: {})", sportKey, markets);
+            response = httpClient.getStream(url, null);
+        } catch (RuntimeException e) {
+            // No response, so no credits were charged
+            quotaManager.release(reservedCost);
+            log.error("Error streaming matches with odds from The Odds API for sport: {}", sportKey, e);
+            throw new RuntimeException("Failed to stream matches with odds: " + e.getMessage(), e);
+        }
+        // Owned from here on, so the body and its per-host slot are released whatever fails below
+        try (response) {
+            // Error responses (401 bad key, 422 bad parameters, 429 out of credits) still report the quota
+            quotaManager.recordResponse(response.headers(), reservedCost);
+
+            try (JsonParser parser = objectMapper.getFactory().createParser(response.requireSuccessful().body())) {
+                JsonToken firstToken = parser.nextToken();
+                if (firstToken == null) {
+                    log.warn("Empty response from API for sport: {} (markets: {})", sportKey, markets);
+                    return 0;
+                }
+
+                // API returned an object (an error response), which must not pass for an empty league
+                if (firstToken == JsonToken.START_OBJECT) {
+                    JsonNode root = objectMapper.readTree(parser);
+                    String error = root.has("message") ? root.get("message").asText()
+                            : root.has("error") ? root.get("error").asText()
+                            : "object instead of array";
+                    throw new IllegalStateException("API returned error for sport " + sportKey + ": " + error);
                 }
-                
-                // Check if response is an error object
-                try {
-                    JsonNode root = objectMapper.readTree(responseBody);
-                    if (!root.isArray() && root.has("message")) {
-                        log.warn("API returned error for sport: {} (markets: {}). Message: {}", 
-                                sportKey, markets, root.get("message").asText());
-                    }
-                } catch (Exception e) {
-                    // Not JSON or parsing failed, ignore
+
+                if (firstToken != JsonToken.START_ARRAY) {
+                    throw new IllegalStateException("Unexpected JSON token at start of response: " + firstToken);
+                }
+
+                int eventCount = 0;
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    eventConsumer.accept(objectMapper.readTree(parser));
+                    eventCount++;
                 }
+
+                log.info("Successfully streamed {} matches with odds for sport: {} (markets: {})", eventCount, sportKey, markets);
+                return eventCount;
             }
-            
-            log.info("Successfully fetched matches with odds for sport: {} (markets: {})", sportKey, markets);
-            return responseBody;
         } catch (Exception e) {
-            log.error("Error fetching matches with odds from The Odds API for sport: {}", sportKey, e);
-            throw new RuntimeException("Failed to fetch matches with odds: " + e.getMessage(), e);
+            log.error("Error streaming matches with odds from The Odds API for sport: {}", sportKey, e);
+            throw new RuntimeException("Failed to stream matches with odds: " + e.getMessage(), e);
+        }
+    }
+
+    private String buildOddsUrl(String sportKey, String regions, String markets,
+                                String commenceTimeFrom, String commenceTimeTo, String oddsFormat) {
+        StringBuilder urlBuilder = new StringBuilder(BASE_URL)
+                .append("/sports/")
+                .append(URLEncoder.encode(sportKey, StandardCharsets.UTF_8))
+                .append("/odds")
+                .append("?apiKey=").append(URLEncoder.encode(apiKey, StandardCharsets.UTF_8))
+                .append("&regions=").append(URLEncoder.encode(regions, StandardCharsets.UTF_8))
+                .append("&markets=").append(URLEncoder.encode(markets, StandardCharsets.UTF_8))
+                .append("&oddsFormat=").append(URLEncoder.encode(oddsFormat, StandardCharsets.UTF_8));
+        
+        // Add date filters if provided
+        if (commenceTimeFrom != null && !commenceTimeFrom.isEmpty()) {
+            urlBuilder.append("&commenceTimeFrom=")
+                    .append(URLEncoder.encode(commenceTimeFrom, StandardCharsets.UTF_8));
+        }
+        if (commenceTimeTo != null && !commenceTimeTo.isEmpty()) {
+            urlBuilder.append("&commenceTimeTo=")
+                    .append(URLEncoder.encode(commenceTimeTo, StandardCharsets.UTF_8));
         }
+        return urlBuilder.toString();
     }
 }
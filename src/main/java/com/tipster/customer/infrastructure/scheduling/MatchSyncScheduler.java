@@ -1,105 +1,243 @@
 package com.tipster.customer.infrastructure.scheduling;
 
 import com.tipster.customer.application.service.MatchSyncService;
-import lombok.RequiredArgsConstructor;
+import com.tipster.customer.infrastructure.external.theoddsapi.OddsApiQuotaManager;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
 /**
- * Scheduled jobs for automatically syncing matches from The Odds API
+ * Priority-driven refresh of matches from The Odds API
+ * 
+ * Every synced league is split into adjacent kickoff windows (see SyncWindow), each with its own refresh
+ * interval, and each league is one work item in a time-ordered queue. The Odds API charges per call, so
+ * when a league comes due all of its windows that are due, or within half an interval of being due, are
+ * fetched as one contiguous date range in a single request. When credits run low, windows whose
+ * SyncWindow#getMinBudgetFill is above the current bucket fill are postponed, far windows first, so the
+ * imminent window keeps being refreshed. Due items run on a dedicated bounded pool, not on Spring's
+ * scheduler thread.
  * 
- * Multiple sync types with different date ranges:
- * - 24-hour sync: Frequent updates for upcoming matches (next 1 day)
- * - Weekly sync: Regular sync for upcoming matches (next 7 days) - DEFAULT ENABLED
- * - Monthly sync: Extended sync for future matches (next 30 days)
+ * Refresh intervals are base intervals, scaled by OddsApiQuotaManager#intervalMultiplier so the
+ * monthly API credit budget is spent evenly
  * 
  * Configuration:
- * - match.sync.enabled: Enable/disable all scheduled syncs (default: true)
- * - match.sync.24h.enabled: Enable 24-hour sync (default: false)
- * - match.sync.weekly.enabled: Enable weekly sync (default: true)
- * - match.sync.monthly.enabled: Enable monthly sync (default: false)
+ * - match.sync.enabled: Enable/disable the scheduled sync (default: true)
+ * - match.sync.scheduler.max-concurrency: Leagues refreshed at the same time (default: 2)
+ * - match.sync.window.*.interval-minutes: Base refresh interval per window
+ * - match.sync.window.month.enabled: Refresh the 7-30 day window (default: false)
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 @ConditionalOnProperty(name = "match.sync.enabled", havingValue = "true", matchIfMissing = true)
 public class MatchSyncScheduler {
 
     private final MatchSyncService matchSyncService;
+    private final OddsApiQuotaManager quotaManager;
+    // Enabled windows only, nearest first
+    private final Map<SyncWindow, Duration> refreshIntervals = new EnumMap<>(SyncWindow.class);
+    private final Duration initialDelay;
+    private final int maxConcurrency;
+
+    private final DelayQueue<SyncWorkItem> queue = new DelayQueue<>();
+    // Leagues that are queued or running, so a league is never scheduled twice
+    private final Set<String> scheduledLeagues = ConcurrentHashMap.newKeySet();
+    // Next due time per window; a league's map is only touched by the single item of that league
+    private final Map<String, Map<SyncWindow, Instant>> windowDueTimes = new ConcurrentHashMap<>();
+    private final Semaphore workerPermits;
+    private final ExecutorService workers;
+    private volatile Thread dispatcher;
+
+    public MatchSyncScheduler(MatchSyncService matchSyncService,
+                              OddsApiQuotaManager quotaManager,
+                              @Value("${match.sync.scheduler.max-concurrency:2}") int maxConcurrency,
+                              @Value("${match.sync.scheduler.initial-delay-ms:60000}") long initialDelayMs,
+                              @Value("${match.sync.window.imminent.interval-minutes:15}") long imminentIntervalMinutes,
+                              @Value("${match.sync.window.today.interval-minutes:60}") long todayIntervalMinutes,
+                              @Value("${match.sync.window.week.interval-minutes:360}") long weekIntervalMinutes,
+                              @Value("${match.sync.window.month.interval-minutes:1440}") long monthIntervalMinutes,
+                              @Value("${match.sync.window.month.enabled:false}") boolean monthEnabled) {
+        this.matchSyncService = matchSyncService;
+        this.quotaManager = quotaManager;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.initialDelay = Duration.ofMillis(initialDelayMs);
+        this.refreshIntervals.put(SyncWindow.IMMINENT, Duration.ofMinutes(imminentIntervalMinutes));
+        this.refreshIntervals.put(SyncWindow.TODAY, Duration.ofMinutes(todayIntervalMinutes));
+        this.refreshIntervals.put(SyncWindow.WEEK, Duration.ofMinutes(weekIntervalMinutes));
+        if (monthEnabled) {
+            this.refreshIntervals.put(SyncWindow.MONTH, Duration.ofMinutes(monthIntervalMinutes));
+        }
+        this.workerPermits = new Semaphore(this.maxConcurrency);
+        this.workers = Executors.newFixedThreadPool(this.maxConcurrency,
+                Thread.ofPlatform().name("match-sync-worker-", 1).daemon(true).factory());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Instant firstRun = Instant.now().plus(initialDelay);
+        for (String leagueExternalId : matchSyncService.getSyncedLeagueExternalIds()) {
+            Map<SyncWindow, Instant> dueTimes = new EnumMap<>(SyncWindow.class);
+            refreshIntervals.keySet().forEach(window -> dueTimes.put(window, firstRun));
+            windowDueTimes.put(leagueExternalId, dueTimes);
+            enqueue(new SyncWorkItem(leagueExternalId, firstRun));
+        }
+        log.info("Match sync scheduler started: {} leagues, max concurrency {}, intervals {}", 
+                queue.size(), maxConcurrency, refreshIntervals);
+
+        dispatcher = Thread.ofPlatform().name("match-sync-dispatcher").daemon(true).start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        workers.shutdownNow();
+    }
 
     /**
-     * 24-Hour Sync: Frequent updates for upcoming matches (next 24 hours)
-     * Runs every 2 hours
-     * Purpose: Keep odds fresh for matches happening soon
+     * Hand due items to the worker pool, earliest due first
+     * A worker slot is claimed before taking an item, so items never wait in the pool's own queue
+     * and a more urgent item that becomes due meanwhile still goes first
      */
-    @Scheduled(fixedDelayString = "${match.sync.24h.interval-milliseconds:7200000}", initialDelay = 180000)
-    @ConditionalOnProperty(name = "match.sync.24h.enabled", havingValue = "true", matchIfMissing = false)
-    public void sync24HourMatches() {
-        log.info("Starting 24-hour match sync (next 1 day)");
-        
-        long startTime = System.currentTimeMillis();
-        
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                workerPermits.acquire();
+                SyncWorkItem item;
+                try {
+                    item = queue.take();
+                } catch (InterruptedException e) {
+                    workerPermits.release();
+                    throw e;
+                }
+                try {
+                    workers.execute(() -> runAndReschedule(item));
+                } catch (RejectedExecutionException e) {
+                    workerPermits.release();
+                    log.debug("Match sync worker pool is shut down, dropping {}", item);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("Match sync dispatcher stopped");
+    }
+
+    private void runAndReschedule(SyncWorkItem item) {
+        Map<SyncWindow, Instant> dueTimes = windowDueTimes.get(item.leagueExternalId());
         try {
-            int totalSynced = matchSyncService.syncMatchesForAllActiveLeagues(1);
-            
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Completed 24-hour match sync: {} matches synced in {} ms", totalSynced, duration);
-            
-        } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("Error during 24-hour match sync after {} ms: {}", duration, e.getMessage(), e);
+            syncDueWindows(item.leagueExternalId(), dueTimes);
+        } finally {
+            workerPermits.release();
+            scheduledLeagues.remove(item.leagueExternalId());
+            Instant nextDue = dueTimes.values().stream().min(Instant::compareTo).orElseThrow();
+            enqueue(new SyncWorkItem(item.leagueExternalId(), nextDue));
         }
     }
 
     /**
-     * Weekly Sync: Regular sync for upcoming matches (next 7 days)
-     * Runs every 6 hours
-     * Purpose: Main sync to populate database with upcoming matches
-     * DEFAULT: ENABLED
+     * Fetch every due window of a league the budget allows in one request and move their due times on
      */
-    @Scheduled(fixedDelayString = "${match.sync.weekly.interval-milliseconds:21600000}", initialDelay = 60000)
-    @ConditionalOnProperty(name = "match.sync.weekly.enabled", havingValue = "true", matchIfMissing = true)
-    public void syncWeeklyMatches() {
-        log.info("Starting weekly match sync (next 7 days)");
-        
+    private void syncDueWindows(String leagueExternalId, Map<SyncWindow, Instant> dueTimes) {
+        Instant now = Instant.now();
+        double budgetFill = quotaManager.fillRatio();
+        SyncWindow first = null;
+        SyncWindow last = null;
+        for (Map.Entry<SyncWindow, Duration> entry : refreshIntervals.entrySet()) {
+            SyncWindow window = entry.getKey();
+            // Picking a window up to half an interval early costs nothing when the request is made anyway
+            Instant pickupFrom = dueTimes.get(window).minus(entry.getValue().dividedBy(2));
+            if (pickupFrom.isAfter(now)) {
+                continue;
+            }
+            if (window.getMinBudgetFill() > budgetFill) {
+                log.debug("Postponing {} match sync for league {}: credit bucket at {}", 
+                        window, leagueExternalId, budgetFill);
+                dueTimes.put(window, nextDue(window));
+                continue;
+            }
+            if (first == null) {
+                first = window;
+            }
+            last = window;
+        }
+        if (first == null) {
+            return;
+        }
+
+        syncRange(leagueExternalId, first, last);
+        // Windows between the first and last are inside the fetched range, so they are fresh as well
+        for (SyncWindow window : refreshIntervals.keySet()) {
+            if (window.compareTo(first) >= 0 && window.compareTo(last) <= 0) {
+                dueTimes.put(window, nextDue(window));
+            }
+        }
+    }
+
+    private void syncRange(String leagueExternalId, SyncWindow first, SyncWindow last) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime startDate = now.plus(first.getFrom());
+        OffsetDateTime endDate = now.plus(last.getTo());
+        String windows = first == last ? first.name() : first + "-" + last;
         long startTime = System.currentTimeMillis();
-        
+
         try {
-            int totalSynced = matchSyncService.syncMatchesForAllActiveLeagues(7);
-            
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Completed weekly match sync: {} matches synced in {} ms", totalSynced, duration);
-            
+            int synced = matchSyncService.syncMatchesForLeague(leagueExternalId, startDate, endDate);
+            log.info("Completed {} match sync for league {}: {} matches synced in {} ms", 
+                    windows, leagueExternalId, synced, System.currentTimeMillis() - startTime);
         } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("Error during weekly match sync after {} ms: {}", duration, e.getMessage(), e);
+            log.error("Error during {} match sync for league {} after {} ms: {}", 
+                    windows, leagueExternalId, System.currentTimeMillis() - startTime, e.getMessage(), e);
+        }
+    }
+
+    private Instant nextDue(SyncWindow window) {
+        long baseMs = refreshIntervals.get(window).toMillis();
+        return Instant.now().plusMillis(Math.round(baseMs * quotaManager.intervalMultiplier()));
+    }
+
+    private void enqueue(SyncWorkItem item) {
+        if (scheduledLeagues.add(item.leagueExternalId())) {
+            queue.put(item);
+        } else {
+            log.debug("Skipping duplicate match sync work item {}", item);
         }
     }
 
     /**
-     * Monthly Sync: Extended sync for future matches (next 30 days)
-     * Runs every 12 hours
-     * Purpose: Get future matches scheduled well in advance
+     * One league refresh, ordered by the due time of its earliest window
      */
-    @Scheduled(fixedDelayString = "${match.sync.monthly.interval-milliseconds:43200000}", initialDelay = 240000)
-    @ConditionalOnProperty(name = "match.sync.monthly.enabled", havingValue = "true", matchIfMissing = false)
-    public void syncMonthlyMatches() {
-        log.info("Starting monthly match sync (next 30 days)");
-        
-        long startTime = System.currentTimeMillis();
-        
-        try {
-            int totalSynced = matchSyncService.syncMatchesForAllActiveLeagues(30);
-            
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Completed monthly match sync: {} matches synced in {} ms", totalSynced, duration);
-            
-        } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("Error during monthly match sync after {} ms: {}", duration, e.getMessage(), e);
+    private record SyncWorkItem(String leagueExternalId, Instant dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(Instant.now(), dueAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return dueAt.compareTo(((SyncWorkItem) other).dueAt);
         }
     }
 }
@@ -0,0 +1,37 @@
+package com.tipster.customer.infrastructure.scheduling;
+
+import java.time.Duration;
+
+/**
+ * Adjacent kickoff windows, relative to now, that the match sync refreshes on their own schedules
+ * Declared from nearest to furthest. minBudgetFill is the credit bucket fill level a window needs to be
+ * fetched: when credits run low the far windows are skipped first and the imminent one keeps its share
+ */
+public enum SyncWindow {
+    IMMINENT(Duration.ZERO, Duration.ofHours(3), 0),
+    TODAY(Duration.ofHours(3), Duration.ofHours(24), 0.1),
+    WEEK(Duration.ofHours(24), Duration.ofDays(7), 0.25),
+    MONTH(Duration.ofDays(7), Duration.ofDays(30), 0.5);
+
+    private final Duration from;
+    private final Duration to;
+    private final double minBudgetFill;
+
+    SyncWindow(Duration from, Duration to, double minBudgetFill) {
+        this.from = from;
+        this.to = to;
+        this.minBudgetFill = minBudgetFill;
+    }
+
+    public Duration getFrom() {
+        return from;
+    }
+
+    public Duration getTo() {
+        return to;
+    }
+
+    public double getMinBudgetFill() {
+        return minBudgetFill;
+    }
+}
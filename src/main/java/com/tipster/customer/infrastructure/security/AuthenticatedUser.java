@@ -0,0 +1,22 @@
+package com.tipster.customer.infrastructure.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable principal of an authenticated request: what the filter needs to authorize, nothing more
+ */
+public record AuthenticatedUser(UUID id, boolean active, List<GrantedAuthority> authorities) implements Principal {
+
+    public AuthenticatedUser {
+        authorities = List.copyOf(authorities);
+    }
+
+    @Override
+    public String getName() {
+        return id.toString();
+    }
+}
@@ -0,0 +1,11 @@
+package com.tipster.customer.infrastructure.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a token whose signature and expiry were verified
+ * tokenId (jti) is null for tokens issued before tokens carried one
+ */
+public record JwtClaims(UUID tokenId, UUID userId, String email, String role, Instant expiresAt) {
+}
@@ -1,11 +1,16 @@
 package com.tipster.customer.infrastructure.security;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JwtTokenService {
     String generateToken(UUID userId, String email, String role);
-    boolean validateToken(String token);
-    UUID getUserIdFromToken(String token);
-    String getEmailFromToken(String token);
-    String getRoleFromToken(String token);
+
+    /**
+     * Verify a token and read its claims in a single parse
+     *
+     * @param token Compact JWT
+     * @return Claims, empty if the token is malformed, badly signed or expired
+     */
+    Optional<JwtClaims> verify(String token);
 }
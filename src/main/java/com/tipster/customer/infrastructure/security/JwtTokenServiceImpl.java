@@ -1,6 +1,8 @@
 package com.tipster.customer.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,20 +12,25 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class JwtTokenServiceImpl implements JwtTokenService {
 
-    @Value("${jwt.secret:tipster-customer-secret-key-change-in-production-minimum-256-bits}")
-    private String jwtSecret;
+    // Both are immutable and thread-safe, so they are built once instead of per call
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpirationMs;
 
-    @Value("${jwt.expiration:86400000}")
-    private long jwtExpirationMs;
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtTokenServiceImpl(
+            @Value("${jwt.secret:tipster-customer-secret-key-change-in-production-minimum-256-bits}") String jwtSecret,
+            @Value("${jwt.expiration:86400000}") long jwtExpirationMs) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.jwtExpirationMs = jwtExpirationMs;
     }
 
     @Override
@@ -31,56 +38,37 @@ public class JwtTokenServiceImpl implements JwtTokenService {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
+        // jti identifies the token, so logout can revoke it
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userId.toString())
                 .claim("email", email)
                 .claim("role", role)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     @Override
-    public boolean validateToken(String token) {
+    public Optional<JwtClaims> verify(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = parseClaims(token);
+            if (claims.getSubject() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new JwtClaims(
+                    claims.getId() != null ? UUID.fromString(claims.getId()) : null,
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
-    @Override
-    public UUID getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return UUID.fromString(claims.getSubject());
-    }
-
-    @Override
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("email", String.class);
-    }
-
-    @Override
-    public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("role", String.class);
+    private Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 }
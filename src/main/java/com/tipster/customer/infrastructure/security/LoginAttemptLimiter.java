@@ -0,0 +1,120 @@
+package com.tipster.customer.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Failed login attempts per client IP and per email, counted in a fixed window from the first failure
+ * Counters are keyed by the exact IP and normalized email, so one key's failures never throttle another key.
+ * Both maps are bounded Caffeine caches whose entries expire one window after their last failure; under a flood
+ * of distinct keys the least useful counters are evicted rather than shared.
+ * The client IP is only meaningful with server.forward-headers-strategy set when running behind a proxy
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final Cache<String, Attempts> attemptsByIp;
+    private final Cache<String, Attempts> attemptsByEmail;
+    private final int maxAttemptsPerIp;
+    private final int maxAttemptsPerEmail;
+    private final long windowNanos;
+    private final Ticker ticker;
+
+    @Autowired
+    public LoginAttemptLimiter(@Value("${security.login.max-tracked-keys:100000}") long maxTrackedKeys,
+                               @Value("${security.login.max-attempts-per-ip:20}") int maxAttemptsPerIp,
+                               @Value("${security.login.max-attempts-per-email:5}") int maxAttemptsPerEmail,
+                               @Value("${security.login.window-seconds:300}") long windowSeconds) {
+        this(maxTrackedKeys, maxAttemptsPerIp, maxAttemptsPerEmail, Duration.ofSeconds(windowSeconds), Ticker.systemTicker());
+    }
+
+    LoginAttemptLimiter(long maxTrackedKeys, int maxAttemptsPerIp, int maxAttemptsPerEmail, Duration window, Ticker ticker) {
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.windowNanos = window.toNanos();
+        this.ticker = ticker;
+        this.attemptsByIp = newCounterCache(maxTrackedKeys, window, ticker);
+        this.attemptsByEmail = newCounterCache(maxTrackedKeys, window, ticker);
+    }
+
+    /**
+     * Seconds until the IP or the email may try again
+     *
+     * @return Empty if the attempt is allowed
+     */
+    public OptionalLong retryAfter(String clientIp, String email) {
+        long now = ticker.read();
+        long blockedForNanos = Math.max(
+                blockedFor(attemptsByIp, normalizeIp(clientIp), maxAttemptsPerIp, now),
+                blockedFor(attemptsByEmail, normalizeEmail(email), maxAttemptsPerEmail, now));
+        if (blockedForNanos <= 0) {
+            return OptionalLong.empty();
+        }
+        // Rounded up so a client retrying after exactly Retry-After seconds is let through
+        return OptionalLong.of(Math.max(1, (blockedForNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    public void recordFailure(String clientIp, String email) {
+        long now = ticker.read();
+        increment(attemptsByIp, normalizeIp(clientIp), now);
+        increment(attemptsByEmail, normalizeEmail(email), now);
+    }
+
+    /**
+     * Clear the email's failures after a correct password; the IP keeps its count, since one address may try
+     * many accounts and succeed on some of them
+     */
+    public void recordSuccess(String email) {
+        attemptsByEmail.invalidate(normalizeEmail(email));
+    }
+
+    // compute is atomic per key; an entry whose window has passed but is not evicted yet starts a new window
+    private void increment(Cache<String, Attempts> counters, String key, long now) {
+        counters.asMap().compute(key, (k, attempts) -> attempts == null || isOver(attempts, now)
+                ? new Attempts(now, 1)
+                : new Attempts(attempts.windowStart(), attempts.count() + 1));
+    }
+
+    private long blockedFor(Cache<String, Attempts> counters, String key, int maxAttempts, long now) {
+        Attempts attempts = counters.getIfPresent(key);
+        if (attempts == null || isOver(attempts, now) || attempts.count() < maxAttempts) {
+            return 0;
+        }
+        return attempts.windowStart() + windowNanos - now;
+    }
+
+    private boolean isOver(Attempts attempts, long now) {
+        return now - attempts.windowStart() >= windowNanos;
+    }
+
+    private static Cache<String, Attempts> newCounterCache(long maxTrackedKeys, Duration window, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterWrite(window)
+                .ticker(ticker)
+                .build();
+    }
+
+    private static String normalizeIp(String clientIp) {
+        return clientIp == null ? "" : clientIp.trim();
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Failures counted since windowStart (ticker nanos)
+     */
+    private record Attempts(long windowStart, int count) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.tipster.customer.infrastructure.security;
+
+import com.tipster.customer.domain.exceptions.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs bcrypt on a small dedicated pool instead of the request threads
+ * At most verify-threads hashes run at once and at most queue-size wait; further logins are shed right away,
+ * so a login storm ties up a bounded number of request threads and CPUs and read traffic keeps its share.
+ * A matching hash made with another cost than the configured one is rehashed in the same task
+ */
+@Component
+@Slf4j
+public class PasswordVerifier {
+
+    private static final long SHED_RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final int bcryptStrength;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            @Value("${security.password.bcrypt-strength:10}") int bcryptStrength,
+                            @Value("${security.login.verify-threads:2}") int threads,
+                            @Value("${security.login.queue-size:32}") int queueSize,
+                            @Value("${security.login.verify-timeout-ms:5000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.bcryptStrength = bcryptStrength;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Check a password against its stored hash
+     *
+     * @param rawPassword Password typed by the user
+     * @param passwordHash Stored bcrypt hash
+     * @return Whether it matches, and a new hash when the stored one should be replaced
+     * @throws TooManyRequestsException When the pool is saturated
+     */
+    public Verification verify(String rawPassword, String passwordHash) {
+        Future<Verification> result;
+        try {
+            result = executor.submit(() -> {
+                if (!passwordEncoder.matches(rawPassword, passwordHash)) {
+                    return new Verification(false, null);
+                }
+                return new Verification(true, hasConfiguredCost(passwordHash) ? null : passwordEncoder.encode(rawPassword));
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Shedding login: password verification queue is full");
+            throw new TooManyRequestsException("Too many login attempts, try again shortly", SHED_RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new TooManyRequestsException("Too many login attempts, try again shortly", SHED_RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Hashes look like $2a$10$...: the cost is the two digits after the version
+    private boolean hasConfiguredCost(String passwordHash) {
+        if (passwordHash == null || passwordHash.length() < 7 || passwordHash.charAt(3) != '$') {
+            return true;
+        }
+        try {
+            return Integer.parseInt(passwordHash.substring(4, 6)) == bcryptStrength;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * @param upgradedHash New hash to store, null when the stored one is fine
+     */
+    public record Verification(boolean matches, String upgradedHash) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.tipster.customer.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tipster.customer.application.events.UserAccessChangedEvent;
+import com.tipster.customer.domain.entities.User;
+import com.tipster.customer.domain.entities.UserRole;
+import com.tipster.customer.domain.repository.UserRepository;
+import com.tipster.customer.domain.repository.UserRoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Principals of authenticated users, so the JWT filter does not load the user on every request
+ * Snapshots expire after a short TTL, which bounds how long a change made outside this service goes unnoticed;
+ * changes made here are applied at once through UserAccessChangedEvent. Inactive users are cached as well,
+ * so their requests do not reach the database either
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final UserRoleRepository userRoleRepository;
+    private final Cache<UUID, AuthenticatedUser> principals;
+
+    public PrincipalCache(UserRepository userRepository,
+                          UserRoleRepository userRoleRepository,
+                          @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${security.principal-cache.max-entries:10000}") long maxEntries) {
+        this.userRepository = userRepository;
+        this.userRoleRepository = userRoleRepository;
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * Principal of a user, loaded from the database on a miss
+     *
+     * @param userId ID from a verified token
+     * @return Principal, empty if the user does not exist
+     */
+    public Optional<AuthenticatedUser> get(UUID userId) {
+        AuthenticatedUser cached = principals.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Unknown users are not cached: a token for them can only come from a deleted account
+        Optional<AuthenticatedUser> loaded = userRepository.findById(userId).map(this::toPrincipal);
+        loaded.ifPresent(principal -> principals.put(userId, principal));
+        return loaded;
+    }
+
+    public void invalidate(UUID userId) {
+        principals.invalidate(userId);
+    }
+
+    @EventListener
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        invalidate(event.userId());
+        log.debug("Dropped cached principal of user {}", event.userId());
+    }
+
+    private AuthenticatedUser toPrincipal(User user) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (user.getRole() != null) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        } else {
+            // Fall back to user_roles table
+            for (UserRole role : userRoleRepository.findByUserId(user.getId())) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getRole().name()));
+            }
+        }
+
+        // If no roles, default to USER
+        if (authorities.isEmpty()) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        }
+        return new AuthenticatedUser(user.getId(), Boolean.TRUE.equals(user.getIsActive()), authorities);
+    }
+}
@@ -0,0 +1,138 @@
+package com.tipster.customer.infrastructure.security;
+
+import com.tipster.customer.domain.repository.TokenRevocationRepository;
+import com.tipster.customer.domain.repository.TokenRevocationRepository.TokenRevocation;
+import com.tipster.customer.infrastructure.utils.UuidBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked access tokens, checked by the JWT filter without I/O
+ * A Bloom filter answers "never revoked" for nearly every token; only its rare positives consult the exact set
+ * of (jti, expiry). Both are loaded from token_revocations at startup, then kept current by polling for
+ * revocations made by other instances. Entries are dropped once their token expired on its own
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    // Rows committed late may carry a revoked_at slightly before the previous poll
+    private static final Duration REVOKED_OVERLAP = Duration.ofSeconds(30);
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final int expectedEntries;
+
+    // jti -> expiry in epoch millis
+    private final Map<UUID, Long> expiryByTokenId = new ConcurrentHashMap<>();
+    private volatile UuidBloomFilter bloomFilter;
+    private OffsetDateTime revokedSince;
+
+    public TokenRevocationList(TokenRevocationRepository tokenRevocationRepository,
+                               @Value("${security.revocation.expected-entries:100000}") int expectedEntries) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.expectedEntries = expectedEntries;
+        this.bloomFilter = new UuidBloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Whether a token was revoked; tokens without jti cannot be revoked
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        UUID tokenId = claims.tokenId();
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = expiryByTokenId.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Revoke a token until it expires
+     */
+    public synchronized void revoke(JwtClaims claims) {
+        if (claims.tokenId() == null || claims.expiresAt() == null) {
+            log.debug("Token of user {} has no jti or expiry and cannot be revoked", claims.userId());
+            return;
+        }
+        tokenRevocationRepository.insert(claims.tokenId(), claims.userId(),
+                OffsetDateTime.ofInstant(claims.expiresAt(), ZoneOffset.UTC));
+        add(claims.tokenId(), claims.expiresAt().toEpochMilli());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        try {
+            OffsetDateTime startedAt = tokenRevocationRepository.currentTimestamp();
+            List<TokenRevocation> revocations = tokenRevocationRepository.findUnexpired(startedAt);
+            for (TokenRevocation revocation : revocations) {
+                add(revocation.jti(), revocation.expiresAt().toInstant().toEpochMilli());
+            }
+            revokedSince = startedAt;
+            log.info("Loaded {} token revocations", revocations.size());
+        } catch (Exception e) {
+            log.error("Failed to load token revocations: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-interval-ms:10000}",
+            initialDelayString = "${security.revocation.refresh-interval-ms:10000}")
+    public synchronized void refresh() {
+        if (revokedSince == null) {
+            // Not loaded yet (or the initial load failed)
+            load();
+            return;
+        }
+
+        try {
+            OffsetDateTime startedAt = tokenRevocationRepository.currentTimestamp();
+            for (TokenRevocation revocation : tokenRevocationRepository.findRevokedSince(revokedSince.minus(REVOKED_OVERLAP))) {
+                add(revocation.jti(), revocation.expiresAt().toInstant().toEpochMilli());
+            }
+            revokedSince = startedAt;
+        } catch (Exception e) {
+            log.error("Failed to refresh token revocations: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.purge-interval-ms:3600000}",
+            initialDelayString = "${security.revocation.purge-interval-ms:3600000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (expiryByTokenId.values().removeIf(expiresAt -> expiresAt <= now)) {
+            // Bloom filters cannot forget, so expired entries are dropped by rebuilding it
+            UuidBloomFilter rebuilt = new UuidBloomFilter(Math.max(expectedEntries, expiryByTokenId.size() * 2), FALSE_POSITIVE_RATE);
+            expiryByTokenId.keySet().forEach(rebuilt::add);
+            bloomFilter = rebuilt;
+        }
+
+        try {
+            int deleted = tokenRevocationRepository.deleteExpired(OffsetDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+            if (deleted > 0) {
+                log.info("Purged {} expired token revocations", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge expired token revocations: {}", e.getMessage(), e);
+        }
+    }
+
+    // Exact set first: a concurrent check that sees the Bloom bit must find the entry
+    private void add(UUID tokenId, long expiresAt) {
+        expiryByTokenId.put(tokenId, expiresAt);
+        bloomFilter.add(tokenId);
+    }
+}
@@ -0,0 +1,123 @@
+package com.tipster.customer.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Claims of tokens already verified, so a client sending the same token on every call pays for the signature
+ * check once (opt-in with security.token-cache.enabled)
+ * Entries are keyed by a SHA-256 digest of the token, never the token itself, and expire when the token does.
+ * Tokens that fail verification are not cached
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final JwtTokenService jwtTokenService;
+    private final boolean enabled;
+    private final Cache<TokenDigest, JwtClaims> claimsByDigest;
+
+    public VerifiedTokenCache(JwtTokenService jwtTokenService,
+                              @Value("${security.token-cache.enabled:false}") boolean enabled,
+                              @Value("${security.token-cache.max-entries:10000}") long maxEntries) {
+        this.jwtTokenService = jwtTokenService;
+        this.enabled = enabled;
+        this.claimsByDigest = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Verify a token, from the cache when it was verified before
+     *
+     * @param token Compact JWT
+     * @return Claims, empty if the token is invalid or expired
+     */
+    public Optional<JwtClaims> verify(String token) {
+        if (!enabled) {
+            return jwtTokenService.verify(token);
+        }
+
+        TokenDigest digest = TokenDigest.of(token);
+        JwtClaims cached = claimsByDigest.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<JwtClaims> verified = jwtTokenService.verify(token);
+        // Tokens without exp would stay valid forever, so only expiring ones are cached
+        verified.filter(claims -> claims.expiresAt() != null)
+                .ifPresent(claims -> claimsByDigest.put(digest, claims));
+        return verified;
+    }
+
+    // Registered once the OpenTelemetry SDK is installed as the global instance
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerMetrics() {
+        if (!enabled) {
+            return;
+        }
+        Meter meter = GlobalOpenTelemetry.getMeter("tipster-customer-api");
+        meter.counterBuilder("security.token_cache.hits")
+                .setDescription("Bearer tokens served from the verified-token cache")
+                .buildWithCallback(measurement -> measurement.record(claimsByDigest.stats().hitCount()));
+        meter.counterBuilder("security.token_cache.misses")
+                .setDescription("Bearer tokens verified because they were not in the verified-token cache")
+                .buildWithCallback(measurement -> measurement.record(claimsByDigest.stats().missCount()));
+        meter.gaugeBuilder("security.token_cache.hit_ratio")
+                .setDescription("Share of bearer tokens served from the verified-token cache")
+                .buildWithCallback(measurement -> measurement.record(claimsByDigest.stats().hitRate()));
+    }
+
+    /**
+     * First 128 bits of the SHA-256 of a token
+     */
+    private record TokenDigest(long high, long low) {
+
+        static TokenDigest of(String token) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(hash);
+                return new TokenDigest(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                // Every JVM ships SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<TokenDigest, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, JwtClaims claims, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,17 +1,16 @@
 package com.tipster.customer.infrastructure.security.filter;
 
-import com.tipster.customer.domain.entities.User;
-import com.tipster.customer.domain.entities.UserRole;
-import com.tipster.customer.domain.repository.UserRepository;
-import com.tipster.customer.domain.repository.UserRoleRepository;
-import com.tipster.customer.infrastructure.security.JwtTokenService;
+import com.tipster.customer.infrastructure.security.AuthenticatedUser;
+import com.tipster.customer.infrastructure.security.JwtClaims;
+import com.tipster.customer.infrastructure.security.PrincipalCache;
+import com.tipster.customer.infrastructure.security.TokenRevocationList;
+import com.tipster.customer.infrastructure.security.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -19,18 +18,15 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenService jwtTokenService;
-    private final UserRepository userRepository;
-    private final UserRoleRepository userRoleRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -38,40 +34,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenService.validateToken(jwt)) {
-                UUID userId = jwtTokenService.getUserIdFromToken(jwt);
-
-                Optional<User> userOptional = userRepository.findById(userId);
-                if (userOptional.isPresent()) {
-                    User user = userOptional.get();
-                    if (user.getIsActive()) {
-                        // Get user roles and convert to authorities
-                        // First check role from users table
-                        List<SimpleGrantedAuthority> authorities = new java.util.ArrayList<>();
-                        
-                        if (user.getRole() != null) {
-                            authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
-                        } else {
-                            // Fall back to user_roles table
-                            List<UserRole> userRoles = userRoleRepository.findByUserId(user.getId());
-                            authorities = userRoles.stream()
-                                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getRole().name()))
-                                    .collect(Collectors.toList());
-                        }
-                        
-                        // If no roles, default to USER
-                        if (authorities.isEmpty()) {
-                            authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
-                        }
-
-                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                                user,
-                                null,
-                                authorities
-                        );
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    }
+            Optional<JwtClaims> claims = StringUtils.hasText(jwt) ? verifiedTokenCache.verify(jwt) : Optional.empty();
+            if (claims.isPresent() && !tokenRevocationList.isRevoked(claims.get())) {
+                Optional<AuthenticatedUser> principal = principalCache.get(claims.get().userId());
+                if (principal.isPresent() && principal.get().active()) {
+                    // The claims are kept as credentials so logout can revoke this very token
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            principal.get(),
+                            claims.get(),
+                            principal.get().authorities()
+                    );
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             }
         } catch (Exception e) {
@@ -0,0 +1,47 @@
+package com.tipster.customer.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64-bit FNV-1a fingerprint over a list of values
+ * Used to detect whether synced content actually changed before writing it
+ */
+public final class ContentFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // Separates values so that ("ab", "c") and ("a", "bc") hash differently
+    private static final byte FIELD_SEPARATOR = 0x1f;
+    private static final byte NULL_MARKER = 0x00;
+
+    private ContentFingerprint() {
+    }
+
+    public static long of(Object... values) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Object value : values) {
+            if (value == null) {
+                hash = mix(hash, NULL_MARKER);
+            } else {
+                for (byte b : value.toString().getBytes(StandardCharsets.UTF_8)) {
+                    hash = mix(hash, b);
+                }
+            }
+            hash = mix(hash, FIELD_SEPARATOR);
+        }
+        return hash;
+    }
+
+    public static long ofBytes(byte[] bytes) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : bytes) {
+            hash = mix(hash, b);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, byte b) {
+        return (hash ^ (b & 0xff)) * FNV_PRIME;
+    }
+}
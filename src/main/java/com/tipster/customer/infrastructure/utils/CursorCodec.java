@@ -0,0 +1,58 @@
+package com.tipster.customer.infrastructure.utils;
+
+import com.tipster.customer.domain.exceptions.ValidateException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Opaque continuation tokens for keyset pagination
+ * A token is the URL-safe Base64 form of the sort key values, so clients cannot (and need not) interpret it
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String... values) {
+        String joined = String.join(SEPARATOR, values);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token Token created by encode
+     * @param expectedValues Number of sort key values in the token
+     * @return Decoded sort key values
+     * @throws ValidateException if the token is malformed
+     */
+    public static List<String> decode(String token, int expectedValues) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            List<String> values = List.of(joined.split("\\|", -1));
+            if (values.size() != expectedValues) {
+                throw invalid();
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * Order UUIDs the way PostgreSQL does (unsigned, byte by byte), unlike UUID#compareTo
+     */
+    public static int compareUuids(UUID a, UUID b) {
+        int byMostSignificant = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return byMostSignificant != 0
+                ? byMostSignificant
+                : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static ValidateException invalid() {
+        return new ValidateException("Invalid cursor", List.of("The cursor is malformed or expired, restart from the first page"));
+    }
+}
@@ -0,0 +1,43 @@
+package com.tipster.customer.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized form of team names used as alias keys
+ * Case, accents, punctuation and club-type suffixes are ignored, everything else must match exactly,
+ * so "Manchester United FC" and "manchester united" are equal but "Manchester" is not
+ */
+public final class TeamNameNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    private static final Set<String> IGNORED_TOKENS = Set.of("fc", "cf", "afc");
+
+    private TeamNameNormalizer() {
+    }
+
+    public static String normalize(String teamName) {
+        if (teamName == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(teamName, Normalizer.Form.NFD);
+        String ascii = DIACRITICS.matcher(decomposed).replaceAll("")
+                .toLowerCase()
+                .replace("&", " and ");
+
+        StringBuilder normalized = new StringBuilder(ascii.length());
+        for (String token : NON_ALPHANUMERIC.split(ascii)) {
+            if (token.isEmpty() || IGNORED_TOKENS.contains(token)) {
+                continue;
+            }
+            if (!normalized.isEmpty()) {
+                normalized.append(' ');
+            }
+            normalized.append(token);
+        }
+        // A name made only of ignored tokens keeps its plain lowercase form
+        return normalized.isEmpty() ? ascii.trim() : normalized.toString();
+    }
+}
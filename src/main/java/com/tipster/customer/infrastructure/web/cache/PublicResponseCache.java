@@ -0,0 +1,229 @@
+package com.tipster.customer.infrastructure.web.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tipster.customer.application.events.SportsSyncedEvent;
+import com.tipster.customer.application.events.UpcomingMatchesRefreshedEvent;
+import com.tipster.customer.infrastructure.utils.ContentFingerprint;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of serialized responses for public read endpoints that are identical for every anonymous caller
+ * Entries hold compact UTF-8 JSON (plus a gzip copy for larger bodies) and a strong ETag, keyed by path and query
+ * Each region has a data version bumped when the underlying data changes; entries of an older version are rebuilt
+ * Entries also expire after a per-region max age, for changes made outside this service (admin backend, SQL scripts)
+ * A matching If-None-Match is answered with 304 straight from the cache, without calling the handler
+ */
+@Component
+@Slf4j
+public class PublicResponseCache {
+
+    public enum Region {
+        SPORTS,
+        LEAGUES,
+        UPCOMING_MATCHES
+    }
+
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT_ENCODING + ", " + HttpHeaders.AUTHORIZATION;
+    // Clients may store the body but must revalidate it with the ETag on every use
+    private static final String CACHE_CONTROL = "no-cache";
+
+    private final boolean enabled;
+    private final int gzipMinBytes;
+    private final Map<Region, Duration> maxAges = new EnumMap<>(Region.class);
+    private final ObjectWriter compactWriter;
+    private final Cache<String, CachedResponse> responses;
+    private final Map<Region, AtomicLong> versions = new EnumMap<>(Region.class);
+
+    public PublicResponseCache(ObjectMapper objectMapper,
+                               @Value("${http.response-cache.enabled:true}") boolean enabled,
+                               @Value("${http.response-cache.max-entries:1000}") long maxEntries,
+                               @Value("${http.response-cache.gzip-min-bytes:1024}") int gzipMinBytes,
+                               @Value("${http.response-cache.catalog-max-age-seconds:300}") long catalogMaxAgeSeconds,
+                               @Value("${http.response-cache.upcoming-matches-max-age-seconds:30}") long upcomingMatchesMaxAgeSeconds) {
+        this.enabled = enabled;
+        this.gzipMinBytes = gzipMinBytes;
+        // Sports and leagues are also edited by the admin backend and SQL scripts, which publish no event here
+        this.maxAges.put(Region.SPORTS, Duration.ofSeconds(catalogMaxAgeSeconds));
+        this.maxAges.put(Region.LEAGUES, Duration.ofSeconds(catalogMaxAgeSeconds));
+        // Upcoming listings default to "from now", so they also age out as matches kick off
+        this.maxAges.put(Region.UPCOMING_MATCHES, Duration.ofSeconds(upcomingMatchesMaxAgeSeconds));
+        // Same inclusion and date settings as the regular responses, without pretty printing
+        this.compactWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+        for (Region region : Region.values()) {
+            versions.put(region, new AtomicLong());
+        }
+    }
+
+    /**
+     * Serve a request from the cache, or call the handler and cache its 200 response
+     *
+     * @param region Data the response is built from
+     * @param request Current request, its path and query form the cache key
+     * @param handler Builds the response on a cache miss
+     * @return Cached bytes, a 304, or the handler's response if it is not cacheable
+     */
+    public ResponseEntity<?> serve(Region region, HttpServletRequest request, Supplier<ResponseEntity<?>> handler) {
+        if (!enabled) {
+            return handler.get();
+        }
+
+        // Read the version before building, so data changing meanwhile invalidates what we store
+        long version = versions.get(region).get();
+        String key = region.name() + ':' + request.getRequestURI() +
+                (request.getQueryString() != null ? '?' + request.getQueryString() : "");
+
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null && cached.version() == version && !cached.isExpired()) {
+            return respond(cached, request);
+        }
+
+        ResponseEntity<?> response = handler.get();
+        if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+            return response;
+        }
+
+        CachedResponse fresh = toCachedResponse(response, version, maxAges.get(region));
+        responses.put(key, fresh);
+        return respond(fresh, request);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSportsSynced(SportsSyncedEvent event) {
+        // League responses carry their sport
+        invalidate(Region.SPORTS);
+        invalidate(Region.LEAGUES);
+    }
+
+    @EventListener
+    public void onUpcomingMatchesRefreshed(UpcomingMatchesRefreshedEvent event) {
+        invalidate(Region.UPCOMING_MATCHES);
+    }
+
+    public void invalidate(Region region) {
+        long version = versions.get(region).incrementAndGet();
+        log.debug("Invalidated cached {} responses (data version {})", region, version);
+    }
+
+    private CachedResponse toCachedResponse(ResponseEntity<?> response, long version, Duration maxAge) {
+        byte[] body;
+        try {
+            body = compactWriter.writeValueAsBytes(response.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cached response", e);
+        }
+        byte[] gzippedBody = body.length >= gzipMinBytes ? gzip(body) : null;
+        String hash = Long.toHexString(ContentFingerprint.ofBytes(body));
+
+        // Controller headers such as X-Next-Cursor are replayed with the cached body
+        HttpHeaders headers = new HttpHeaders();
+        response.getHeaders().forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                headers.put(name, values);
+            }
+        });
+
+        long expiresAt = System.currentTimeMillis() + maxAge.toMillis();
+        return new CachedResponse(version, expiresAt, body, '"' + hash + '"',
+                gzippedBody, '"' + hash + "-gzip\"", HttpHeaders.readOnlyHttpHeaders(headers));
+    }
+
+    private ResponseEntity<?> respond(CachedResponse cached, HttpServletRequest request) {
+        boolean gzipped = cached.gzippedBody() != null && acceptsGzip(request);
+        String etag = gzipped ? cached.gzippedEtag() : cached.etag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(cached.headers());
+        headers.setETag(etag);
+        headers.setCacheControl(CACHE_CONTROL);
+        headers.set(HttpHeaders.VARY, VARY);
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzipped) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return new ResponseEntity<>(gzipped ? cached.gzippedBody() : cached.body(), headers, HttpStatus.OK);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match uses the weak comparison, so a W/ prefix added by a proxy still matches
+    private static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record CachedResponse(long version, long expiresAt,
+                                  byte[] body, String etag,
+                                  byte[] gzippedBody, String gzippedEtag,
+                                  HttpHeaders headers) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.tipster.customer.infrastructure.web.controllers;
 import com.tipster.customer.application.service.LeagueService;
 import com.tipster.customer.domain.models.ApiResponse;
 import com.tipster.customer.domain.models.dto.LeagueResponse;
+import com.tipster.customer.infrastructure.web.cache.PublicResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,27 +20,33 @@ import java.util.List;
 public class LeagueController {
 
     private final LeagueService leagueService;
+    private final PublicResponseCache publicResponseCache;
 
     @GetMapping("/football")
-    public ResponseEntity<ApiResponse<List<LeagueResponse>>> getFootballLeagues() {
-        List<LeagueResponse> leagues = leagueService.getFootballLeagues();
-        return ResponseEntity.ok(ApiResponse.success(
-                "Football leagues retrieved successfully", 
-                leagues));
+    public ResponseEntity<?> getFootballLeagues(HttpServletRequest request) {
+        return publicResponseCache.serve(PublicResponseCache.Region.LEAGUES, request, () -> {
+            List<LeagueResponse> leagues = leagueService.getFootballLeagues();
+            return ResponseEntity.ok(ApiResponse.success(
+                    "Football leagues retrieved successfully", 
+                    leagues));
+        });
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<LeagueResponse>>> getLeagues(
-            @RequestParam(required = false) String sportGroup) {
-        List<LeagueResponse> leagues;
-        if (sportGroup != null && !sportGroup.isEmpty()) {
-            leagues = leagueService.getLeaguesBySportGroup(sportGroup);
-        } else {
-            // Default to football if no sport group specified
-            leagues = leagueService.getFootballLeagues();
-        }
-        return ResponseEntity.ok(ApiResponse.success(
-                "Leagues retrieved successfully", 
-                leagues));
+    public ResponseEntity<?> getLeagues(
+            @RequestParam(required = false) String sportGroup,
+            HttpServletRequest request) {
+        return publicResponseCache.serve(PublicResponseCache.Region.LEAGUES, request, () -> {
+            List<LeagueResponse> leagues;
+            if (sportGroup != null && !sportGroup.isEmpty()) {
+                leagues = leagueService.getLeaguesBySportGroup(sportGroup);
+            } else {
+                // Default to football if no sport group specified
+                leagues = leagueService.getFootballLeagues();
+            }
+            return ResponseEntity.ok(ApiResponse.success(
+                    "Leagues retrieved successfully", 
+                    leagues));
+        });
     }
 }
@@ -1,11 +1,19 @@
 package com.tipster.customer.infrastructure.web.controllers;
 
 import com.tipster.customer.application.service.MatchService;
+import com.tipster.customer.domain.enums.OddsSelectionType;
 import com.tipster.customer.domain.enums.UserRoleType;
 import com.tipster.customer.domain.models.ApiResponse;
+import com.tipster.customer.domain.models.MatchPage;
 import com.tipster.customer.domain.models.dto.MatchBasicResponse;
 import com.tipster.customer.domain.models.dto.MatchDetailedResponse;
+import com.tipster.customer.infrastructure.web.cache.PublicResponseCache;
+import com.tipster.customer.infrastructure.web.stream.MatchStreamBroadcaster;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,7 +21,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,29 +33,84 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MatchController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_ODDS_FILTER_LIMIT = 200;
+
     private final MatchService matchService;
+    private final PublicResponseCache publicResponseCache;
+    private final MatchStreamBroadcaster matchStreamBroadcaster;
 
+    /**
+     * Upcoming matches, one page at a time, ordered by kickoff
+     * The token for the next page is returned in the X-Next-Cursor header (absent on the last page)
+     */
     @GetMapping("/upcoming")
-    public ResponseEntity<ApiResponse<?>> getUpcomingMatches(
+    public ResponseEntity<?> getUpcomingMatches(
             @RequestParam(required = false) UUID leagueId,
             @RequestParam(required = false) String leagueExternalId,
-            Authentication authentication) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication,
+            HttpServletRequest request) {
         
         // Check if user is a tipster (defaults to false for unauthenticated users)
         boolean isTipster = isUserTipster(authentication);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
         
-        List<?> matches;
-        if (leagueExternalId != null && !leagueExternalId.isEmpty()) {
-            matches = matchService.getUpcomingMatchesByLeagueExternalId(leagueExternalId, isTipster);
-        } else {
-            matches = matchService.getUpcomingMatches(leagueId, isTipster);
+        if (isTipster) {
+            return buildUpcomingMatchesResponse(leagueId, leagueExternalId, from, to, cursor, pageSize, true);
         }
+        // The public listing is the same for every non-tipster caller
+        return publicResponseCache.serve(PublicResponseCache.Region.UPCOMING_MATCHES, request,
+                () -> buildUpcomingMatchesResponse(leagueId, leagueExternalId, from, to, cursor, pageSize, false));
+    }
+
+    private ResponseEntity<?> buildUpcomingMatchesResponse(UUID leagueId, String leagueExternalId,
+                                                           OffsetDateTime from, OffsetDateTime to,
+                                                           String cursor, int pageSize, boolean isTipster) {
+        MatchPage page = matchService.getUpcomingMatchesPage(leagueId, leagueExternalId, from, to, cursor, pageSize, isTipster);
         
         String message = isTipster 
             ? "Upcoming matches with odds retrieved successfully"
             : "Upcoming matches retrieved successfully";
         
-        return ResponseEntity.ok(ApiResponse.success(message, matches));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(ApiResponse.success(message, page.items()));
+    }
+
+    /**
+     * Server-Sent Events stream of fixture and odds changes for tipsters, replacing polling of /matches/upcoming
+     * Events are named after the change type (fixture, odds, removed); data is one compact JSON delta
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMatchChanges(
+            @RequestParam(required = false) List<UUID> leagueIds) {
+        return matchStreamBroadcaster.subscribe(leagueIds)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    /**
+     * Upcoming matches whose selected odds are above a price, best price first
+     * e.g. /matches/upcoming/by-odds?selection=over_2_5&above=1.9
+     * Tipsters only (SecurityConfig): probing thresholds would otherwise reveal the odds to anyone
+     */
+    @GetMapping("/upcoming/by-odds")
+    public ResponseEntity<ApiResponse<?>> getUpcomingMatchesByOdds(
+            @RequestParam OddsSelectionType selection,
+            @RequestParam BigDecimal above,
+            @RequestParam(defaultValue = "50") int limit) {
+        
+        int boundedLimit = Math.min(Math.max(limit, 1), MAX_ODDS_FILTER_LIMIT);
+        
+        List<?> matches = matchService.getUpcomingMatchesByOdds(selection, above, boundedLimit, true);
+        return ResponseEntity.ok(ApiResponse.success("Upcoming matches retrieved successfully", matches));
     }
 
     /**
@@ -3,6 +3,8 @@ package com.tipster.customer.infrastructure.web.controllers;
 import com.tipster.customer.application.service.SportService;
 import com.tipster.customer.domain.models.ApiResponse;
 import com.tipster.customer.domain.models.dto.SportResponse;
+import com.tipster.customer.infrastructure.web.cache.PublicResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -21,17 +23,21 @@ import java.util.List;
 public class SportController {
 
     private final SportService sportService;
+    private final PublicResponseCache publicResponseCache;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SportResponse>>> getAllSports(
-            @RequestParam(required = false) String group) {
-        List<SportResponse> sports;
-        if (group != null && !group.isEmpty()) {
-            sports = sportService.getSportsByGroup(group);
-        } else {
-            sports = sportService.getAllSports();
-        }
-        return ResponseEntity.ok(ApiResponse.success("Sports retrieved successfully", sports));
+    public ResponseEntity<?> getAllSports(
+            @RequestParam(required = false) String group,
+            HttpServletRequest request) {
+        return publicResponseCache.serve(PublicResponseCache.Region.SPORTS, request, () -> {
+            List<SportResponse> sports;
+            if (group != null && !group.isEmpty()) {
+                sports = sportService.getSportsByGroup(group);
+            } else {
+                sports = sportService.getAllSports();
+            }
+            return ResponseEntity.ok(ApiResponse.success("Sports retrieved successfully", sports));
+        });
     }
 
     @PostMapping("/sync/{providerCode}")
@@ -1,6 +1,7 @@
 package com.tipster.customer.infrastructure.web.controllers;
 
 import com.tipster.customer.application.service.TipService;
+import com.tipster.customer.domain.exceptions.ValidateException;
 import com.tipster.customer.domain.models.ApiResponse;
 import com.tipster.customer.domain.models.dto.TipsPageResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -20,6 +22,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TipController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TipService tipService;
 
     @GetMapping(value = {"", "/"})
@@ -31,8 +35,28 @@ public class TipController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Boolean isFree,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         
+        // Cursor mode: present (even empty, for the first page) switches to keyset pagination
+        if (cursor != null) {
+            if (keyword != null && !keyword.isBlank()) {
+                throw new ValidateException("Invalid pagination",
+                        List.of("Cursor pagination is not available for keyword search, use page instead"));
+            }
+            TipsPageResponse response = tipService.getTipsAfter(
+                    tipsterId,
+                    minPrice,
+                    maxPrice,
+                    status,
+                    isFree,
+                    cursor,
+                    Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE)
+            );
+            return ResponseEntity.ok(ApiResponse.success("Tips retrieved successfully", response));
+        }
+
         // Create pageable with default sorting by tipster rating/success rate and published date
         // The repository query already handles this ordering
         Pageable pageable = PageRequest.of(page, size);
@@ -44,7 +68,8 @@ public class TipController {
                 maxPrice,
                 status,
                 isFree,
-                pageable
+                pageable,
+                includeTotal
         );
         
         return ResponseEntity.ok(ApiResponse.success("Tips retrieved successfully", response));
@@ -0,0 +1,202 @@
+package com.tipster.customer.infrastructure.web.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tipster.customer.application.events.MatchChangesDetectedEvent;
+import com.tipster.customer.domain.models.MatchChange;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans match changes out to Server-Sent Events subscribers
+ * Every change is serialized once; publishing only offers it to the bounded queue of each interested subscriber,
+ * and a virtual thread per subscriber writes its queue to the connection. A subscriber whose queue is full is
+ * too slow to keep up and is disconnected (clients reconnect and reload the listing)
+ */
+@Component
+@Slf4j
+public class MatchStreamBroadcaster {
+
+    private static final OutgoingEvent CLOSE = new OutgoingEvent(0, null, null);
+
+    private final ObjectWriter compactWriter;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final ScheduledExecutorService heartbeat;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    public MatchStreamBroadcaster(ObjectMapper objectMapper,
+                                  @Value("${match.stream.max-subscribers:500}") int maxSubscribers,
+                                  @Value("${match.stream.buffer-size:256}") int bufferSize,
+                                  @Value("${match.stream.timeout-minutes:30}") long timeoutMinutes,
+                                  @Value("${match.stream.heartbeat-seconds:20}") long heartbeatSeconds) {
+        this.compactWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+        // Heartbeats keep idle connections open through proxies and flush out dead ones
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("match-stream-heartbeat").daemon().factory());
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Open a stream of match changes
+     *
+     * @param leagueIds Leagues to receive changes for, empty for all leagues
+     * @return Emitter to return from the controller, or empty if the subscriber limit is reached
+     */
+    public Optional<SseEmitter> subscribe(Collection<UUID> leagueIds) {
+        if (subscribers.size() >= maxSubscribers) {
+            log.warn("Rejected match stream subscriber: limit of {} reached", maxSubscribers);
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, leagueIds == null ? Set.of() : Set.copyOf(leagueIds),
+                new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscribers.add(subscriber);
+        Thread.ofVirtual().name("match-stream-subscriber").start(() -> drain(subscriber));
+        // First comment flushes the response headers so the client sees the stream as open
+        subscriber.queue().offer(new OutgoingEvent(0, null, "connected"));
+        log.debug("Match stream subscriber connected ({} active)", subscribers.size());
+        return Optional.of(emitter);
+    }
+
+    @EventListener
+    public void onMatchChanges(MatchChangesDetectedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        for (MatchChange change : event.changes()) {
+            String data;
+            try {
+                data = compactWriter.writeValueAsString(change);
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to serialize match change for match {}: {}", change.matchId(), e.getMessage());
+                continue;
+            }
+            OutgoingEvent outgoing = new OutgoingEvent(eventSequence.incrementAndGet(), change.type().name(), data);
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.wants(event.leagueId())) {
+                    offer(subscriber, outgoing);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter().complete();
+            remove(subscriber);
+        }
+    }
+
+    private void sendHeartbeat() {
+        OutgoingEvent ping = new OutgoingEvent(0, null, "ping");
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, ping);
+        }
+    }
+
+    // Never blocks the publishing (sync) thread
+    private void offer(Subscriber subscriber, OutgoingEvent outgoing) {
+        if (!subscriber.queue().offer(outgoing)) {
+            log.info("Disconnecting slow match stream subscriber ({} events buffered)", bufferSize);
+            remove(subscriber);
+            subscriber.emitter().complete();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.closed().compareAndSet(false, true)) {
+            subscribers.remove(subscriber);
+            // Wake the writer so it exits; the queue may be full, so make room first
+            subscriber.queue().clear();
+            subscriber.queue().offer(CLOSE);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                OutgoingEvent outgoing = subscriber.queue().take();
+                if (outgoing == CLOSE || subscriber.closed().get()) {
+                    return;
+                }
+                if (outgoing.name() == null) {
+                    subscriber.emitter().send(SseEmitter.event().comment(outgoing.data()));
+                } else {
+                    subscriber.emitter().send(SseEmitter.event()
+                            .id(Long.toString(outgoing.id()))
+                            .name(outgoing.name())
+                            .data(outgoing.data(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away
+            remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * name is null for comments (connection and heartbeat)
+     */
+    private record OutgoingEvent(long id, String name, String data) {
+    }
+
+    private record Subscriber(SseEmitter emitter, Set<UUID> leagueIds, BlockingQueue<OutgoingEvent> queue, AtomicBoolean closed) {
+
+        Subscriber(SseEmitter emitter, Set<UUID> leagueIds, BlockingQueue<OutgoingEvent> queue) {
+            this(emitter, leagueIds, queue, new AtomicBoolean());
+        }
+
+        boolean wants(UUID leagueId) {
+            return leagueIds.isEmpty() || leagueIds.contains(leagueId);
+        }
+
+        // Identity semantics: the queue and emitter are not value components
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Weighted full-text document over title (A) and description (B)
+-- 'simple' config: tips are written in several languages, so no stemming; queries use prefix matching instead
+ALTER TABLE tips
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', COALESCE(title, '')), 'A') ||
+        setweight(to_tsvector('simple', COALESCE(description, '')), 'B')
+    ) STORED;
+
+COMMENT ON COLUMN tips.search_vector IS 'Full-text search document over title and description, maintained by PostgreSQL';
+
+CREATE INDEX IF NOT EXISTS idx_tips_search_vector
+    ON tips USING GIN (search_vector);
+
+-- Trigram indexes serve ILIKE '%fragment%' for fragments inside words that prefix matching cannot find
+CREATE INDEX IF NOT EXISTS idx_tips_title_trgm
+    ON tips USING GIN (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_tips_description_trgm
+    ON tips USING GIN (description gin_trgm_ops);
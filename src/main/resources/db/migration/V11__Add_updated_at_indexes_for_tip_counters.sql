@@ -0,0 +1,4 @@
+-- Tip counters poll for tips, selections and matches changed since their last refresh
+CREATE INDEX IF NOT EXISTS idx_tips_updated_at ON tips (updated_at);
+CREATE INDEX IF NOT EXISTS idx_tip_selections_updated_at ON tip_selections (updated_at);
+CREATE INDEX IF NOT EXISTS idx_matches_updated_at ON matches (updated_at);
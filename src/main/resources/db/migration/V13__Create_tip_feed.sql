@@ -0,0 +1,133 @@
+-- Denormalized tips feed: one row per published tip with everything the feed returns,
+-- so listing tips reads a single table in index order instead of joining tips -> tipsters -> users
+CREATE TABLE IF NOT EXISTS tip_feed (
+    tip_id UUID PRIMARY KEY,
+    tipster_id UUID NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    price NUMERIC(10, 2) NOT NULL,
+    total_odds NUMERIC(8, 2),
+    status tip_status_type NOT NULL,
+    purchases_count INTEGER NOT NULL,
+    published_at TIMESTAMP WITH TIME ZONE,
+    earliest_match_date TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    -- published_at with NULLS LAST folded in, so the feed order is a plain descending key
+    sort_published_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    tipster_rating NUMERIC(5, 2) NOT NULL,
+    tipster_success_rate NUMERIC(5, 2) NOT NULL,
+    tipster_display_name TEXT,
+    tipster_avatar_url TEXT,
+    tipster_is_verified BOOLEAN NOT NULL,
+    tipster_total_tips INTEGER NOT NULL,
+    CONSTRAINT fk_tip_feed_tip FOREIGN KEY (tip_id) REFERENCES tips (id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE tip_feed IS 'Published tips with their tipster display data, maintained by triggers on tips, tipsters and users';
+
+-- Feed order, with the filter columns included so filtered pages are decided from the index alone
+CREATE INDEX IF NOT EXISTS idx_tip_feed_order
+    ON tip_feed (tipster_rating DESC, tipster_success_rate DESC, sort_published_at DESC, created_at DESC, tip_id DESC)
+    INCLUDE (price, status, tipster_id);
+
+CREATE INDEX IF NOT EXISTS idx_tip_feed_tipster_id ON tip_feed (tipster_id);
+
+-- (Re)build the feed row of one tip; unpublished tips have none
+CREATE OR REPLACE FUNCTION tip_feed_refresh_tip(p_tip_id UUID) RETURNS VOID AS $$
+BEGIN
+    DELETE FROM tip_feed WHERE tip_id = p_tip_id;
+    INSERT INTO tip_feed (tip_id, tipster_id, title, description, price, total_odds, status, purchases_count,
+                          published_at, earliest_match_date, created_at, sort_published_at,
+                          tipster_rating, tipster_success_rate, tipster_display_name, tipster_avatar_url,
+                          tipster_is_verified, tipster_total_tips)
+    SELECT t.id, t.tipster_id, t.title, t.description, t.price, t.total_odds, t.status, t.purchases_count,
+           t.published_at, t.earliest_match_date, t.created_at, COALESCE(t.published_at, '-infinity'::timestamptz),
+           tp.rating, tp.success_rate,
+           CASE WHEN u.id IS NOT NULL THEN u.display_name ELSE tp.bio END,
+           CASE WHEN u.id IS NOT NULL THEN u.avatar_url ELSE tp.avatar_url END,
+           tp.is_verified, tp.total_tips
+    FROM tips t
+    JOIN tipsters tp ON tp.id = t.tipster_id
+    LEFT JOIN users u ON u.id = tp.user_id
+    WHERE t.id = p_tip_id
+      AND t.is_published = true;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION tip_feed_on_tip_change() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM tip_feed_refresh_tip(NEW.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_tip_feed_on_tip_change ON tips;
+CREATE TRIGGER trg_tip_feed_on_tip_change
+    AFTER INSERT OR UPDATE ON tips
+    FOR EACH ROW EXECUTE FUNCTION tip_feed_on_tip_change();
+
+CREATE OR REPLACE FUNCTION tip_feed_on_tipster_change() RETURNS TRIGGER AS $$
+DECLARE
+    v_display_name TEXT := NEW.bio;
+    v_avatar_url TEXT := NEW.avatar_url;
+BEGIN
+    -- Same fallback as the API: the user's profile if the tipster has a user, the tipster's own fields otherwise
+    IF NEW.user_id IS NOT NULL THEN
+        SELECT display_name, avatar_url INTO v_display_name, v_avatar_url FROM users WHERE id = NEW.user_id;
+        IF NOT FOUND THEN
+            v_display_name := NEW.bio;
+            v_avatar_url := NEW.avatar_url;
+        END IF;
+    END IF;
+
+    UPDATE tip_feed
+    SET tipster_rating = NEW.rating,
+        tipster_success_rate = NEW.success_rate,
+        tipster_display_name = v_display_name,
+        tipster_avatar_url = v_avatar_url,
+        tipster_is_verified = NEW.is_verified,
+        tipster_total_tips = NEW.total_tips
+    WHERE tipster_id = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_tip_feed_on_tipster_change ON tipsters;
+CREATE TRIGGER trg_tip_feed_on_tipster_change
+    AFTER UPDATE OF rating, success_rate, bio, avatar_url, is_verified, total_tips, user_id ON tipsters
+    FOR EACH ROW EXECUTE FUNCTION tip_feed_on_tipster_change();
+
+CREATE OR REPLACE FUNCTION tip_feed_on_user_change() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE tip_feed f
+    SET tipster_display_name = NEW.display_name,
+        tipster_avatar_url = NEW.avatar_url
+    FROM tipsters tp
+    WHERE tp.user_id = NEW.id
+      AND f.tipster_id = tp.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_tip_feed_on_user_change ON users;
+CREATE TRIGGER trg_tip_feed_on_user_change
+    AFTER UPDATE OF display_name, avatar_url ON users
+    FOR EACH ROW
+    WHEN (OLD.display_name IS DISTINCT FROM NEW.display_name OR OLD.avatar_url IS DISTINCT FROM NEW.avatar_url)
+    EXECUTE FUNCTION tip_feed_on_user_change();
+
+INSERT INTO tip_feed (tip_id, tipster_id, title, description, price, total_odds, status, purchases_count,
+                      published_at, earliest_match_date, created_at, sort_published_at,
+                      tipster_rating, tipster_success_rate, tipster_display_name, tipster_avatar_url,
+                      tipster_is_verified, tipster_total_tips)
+SELECT t.id, t.tipster_id, t.title, t.description, t.price, t.total_odds, t.status, t.purchases_count,
+       t.published_at, t.earliest_match_date, t.created_at, COALESCE(t.published_at, '-infinity'::timestamptz),
+       tp.rating, tp.success_rate,
+       CASE WHEN u.id IS NOT NULL THEN u.display_name ELSE tp.bio END,
+       CASE WHEN u.id IS NOT NULL THEN u.avatar_url ELSE tp.avatar_url END,
+       tp.is_verified, tp.total_tips
+FROM tips t
+JOIN tipsters tp ON tp.id = t.tipster_id
+LEFT JOIN users u ON u.id = tp.user_id
+WHERE t.is_published = true
+ON CONFLICT (tip_id) DO NOTHING;
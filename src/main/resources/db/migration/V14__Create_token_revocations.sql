@@ -0,0 +1,14 @@
+-- Revoked access tokens (logout), keyed by the token's jti
+-- A row is only needed until the token would have expired anyway, then it is purged
+CREATE TABLE IF NOT EXISTS token_revocations (
+    jti UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE token_revocations IS 'Access tokens revoked before their expiry, loaded in memory by every instance';
+
+-- Instances poll for revocations made elsewhere; the purge deletes by expiry
+CREATE INDEX IF NOT EXISTS idx_token_revocations_revoked_at ON token_revocations (revoked_at);
+CREATE INDEX IF NOT EXISTS idx_token_revocations_expires_at ON token_revocations (expires_at);
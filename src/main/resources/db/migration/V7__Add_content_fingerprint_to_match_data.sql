@@ -0,0 +1,4 @@
+ALTER TABLE match_data
+ADD COLUMN IF NOT EXISTS content_fingerprint BIGINT;
+
+COMMENT ON COLUMN match_data.content_fingerprint IS '64-bit hash of the synced fields (league, teams, kickoff, status, canonical odds JSON); the sync skips the row update when it is unchanged';
@@ -0,0 +1,23 @@
+ALTER TABLE match_data
+ALTER COLUMN odds TYPE JSONB USING odds::jsonb;
+
+COMMENT ON COLUMN match_data.odds IS 'Stores betting odds from various markets (match_result, over_under, btts, etc.) as JSONB';
+
+-- Expression indexes for the odds most often filtered/sorted on (e.g. all matches with over 2.5 above 1.9)
+-- Queries must use the exact same expression, e.g. ((odds -> 'over_under' ->> 'over_2_5')::numeric)
+CREATE INDEX IF NOT EXISTS idx_match_data_odds_home_win
+    ON match_data (((odds -> 'match_result' ->> 'home_win')::numeric));
+CREATE INDEX IF NOT EXISTS idx_match_data_odds_draw
+    ON match_data (((odds -> 'match_result' ->> 'draw')::numeric));
+CREATE INDEX IF NOT EXISTS idx_match_data_odds_away_win
+    ON match_data (((odds -> 'match_result' ->> 'away_win')::numeric));
+CREATE INDEX IF NOT EXISTS idx_match_data_odds_over_2_5
+    ON match_data (((odds -> 'over_under' ->> 'over_2_5')::numeric));
+CREATE INDEX IF NOT EXISTS idx_match_data_odds_under_2_5
+    ON match_data (((odds -> 'over_under' ->> 'under_2_5')::numeric));
+CREATE INDEX IF NOT EXISTS idx_match_data_odds_btts_yes
+    ON match_data (((odds -> 'btts' ->> 'yes')::numeric));
+
+-- Containment / existence queries on any market (odds @> '{"btts": {}}', odds @? '$.handicap')
+CREATE INDEX IF NOT EXISTS idx_match_data_odds_gin
+    ON match_data USING GIN (odds jsonb_path_ops);
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS team_aliases (
+    id UUID PRIMARY KEY,
+    team_id UUID NOT NULL,
+    alias_normalized VARCHAR(255) NOT NULL,
+    alias VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    CONSTRAINT fk_team_aliases_team FOREIGN KEY (team_id) REFERENCES teams (id) ON DELETE CASCADE,
+    CONSTRAINT uk_team_aliases_alias_normalized UNIQUE (alias_normalized)
+);
+
+CREATE INDEX IF NOT EXISTS idx_team_aliases_team_id ON team_aliases (team_id);
+
+COMMENT ON TABLE team_aliases IS 'Provider spellings of team names, keyed by normalized form, used to resolve provider teams to team IDs';
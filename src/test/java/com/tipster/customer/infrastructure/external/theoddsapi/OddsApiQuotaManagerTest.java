@@ -0,0 +1,100 @@
+package com.tipster.customer.infrastructure.external.theoddsapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OddsApiQuotaManagerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-15T00:00:00Z"));
+    private OddsApiQuotaManager quotaManager;
+
+    @BeforeEach
+    void setUp() {
+        quotaManager = new OddsApiQuotaManager(500, 20, 24, 1, 0.5, 8, clock);
+    }
+
+    @Test
+    void reservesWithinTheBucket() {
+        assertThat(quotaManager.tryAcquire(3)).isTrue();
+    }
+
+    @Test
+    void refusesRequestsThatWouldSpendTheReserve() {
+        quotaManager.recordResponse(headers(22, 3));
+
+        assertThat(quotaManager.tryAcquire(3)).isFalse();
+        clock.advance(Duration.ofDays(10));
+        assertThat(quotaManager.tryAcquire(3)).isFalse();
+    }
+
+    @Test
+    void drainedBudgetRecoversAfterTheQuotaReset() {
+        quotaManager.recordResponse(headers(22, 3));
+        assertThat(quotaManager.tryAcquire(3)).isFalse();
+
+        clock.set(Instant.parse("2026-11-01T00:00:01Z"));
+
+        assertThat(quotaManager.tryAcquire(3)).isTrue();
+    }
+
+    @Test
+    void settlesReservationAgainstTheReportedCost() {
+        double before = quotaManager.fillRatio();
+        assertThat(quotaManager.tryAcquire(5)).isTrue();
+
+        // The request cost 1 credit instead of the 5 reserved
+        quotaManager.recordResponse(headers(499, 1), 5);
+
+        assertThat(quotaManager.fillRatio()).isLessThan(before);
+        assertThat(quotaManager.tryAcquire(5)).isTrue();
+    }
+
+    private static HttpHeaders headers(long remaining, long lastCost) {
+        return HttpHeaders.of(Map.of(
+                "x-requests-remaining", List.of(String.valueOf(remaining)),
+                "x-requests-last", List.of(String.valueOf(lastCost))), (name, value) -> true);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant instant) {
+            now = instant;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.tipster.customer.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginAttemptLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        Ticker ticker = nanos::get;
+        limiter = new LoginAttemptLimiter(1000, 20, 5, WINDOW, ticker);
+    }
+
+    @Test
+    void allowsAttemptsBelowTheLimit() {
+        fail("10.0.0.1", "user@example.com", 4);
+
+        assertThat(limiter.retryAfter("10.0.0.1", "user@example.com")).isEmpty();
+    }
+
+    @Test
+    void blocksEmailUntilTheEndOfTheWindow() {
+        fail("10.0.0.1", "user@example.com", 5);
+        advance(Duration.ofSeconds(100));
+
+        assertThat(limiter.retryAfter("10.0.0.2", "user@example.com")).isEqualTo(OptionalLong.of(200));
+    }
+
+    @Test
+    void roundsRetryAfterUp() {
+        fail("10.0.0.1", "user@example.com", 5);
+        advance(Duration.ofSeconds(299).plusMillis(1));
+
+        assertThat(limiter.retryAfter("10.0.0.1", "user@example.com")).isEqualTo(OptionalLong.of(1));
+    }
+
+    @Test
+    void windowRolloverResetsTheCount() {
+        fail("10.0.0.1", "user@example.com", 5);
+        advance(WINDOW);
+
+        assertThat(limiter.retryAfter("10.0.0.1", "user@example.com")).isEmpty();
+
+        // A new window counts from zero again
+        fail("10.0.0.1", "user@example.com", 4);
+        assertThat(limiter.retryAfter("10.0.0.1", "user@example.com")).isEmpty();
+        fail("10.0.0.1", "user@example.com", 1);
+        assertThat(limiter.retryAfter("10.0.0.1", "user@example.com")).isEqualTo(OptionalLong.of(300));
+    }
+
+    @Test
+    void successClearsTheEmailCount() {
+        fail("10.0.0.1", "user@example.com", 4);
+        limiter.recordSuccess("User@Example.com");
+        fail("10.0.0.1", "user@example.com", 4);
+
+        assertThat(limiter.retryAfter("10.0.0.1", "user@example.com")).isEmpty();
+        fail("10.0.0.1", "user@example.com", 1);
+        assertThat(limiter.retryAfter("10.0.0.2", "user@example.com")).isPresent();
+    }
+
+    @Test
+    void successKeepsTheIpCount() {
+        for (int i = 0; i < 20; i++) {
+            fail("10.0.0.1", "user" + i + "@example.com", 1);
+        }
+        limiter.recordSuccess("user0@example.com");
+
+        assertThat(limiter.retryAfter("10.0.0.1", "user0@example.com")).isPresent();
+    }
+
+    @Test
+    void normalizesEmail() {
+        fail("10.0.0.1", " User@Example.COM ", 5);
+
+        assertThat(limiter.retryAfter("10.0.0.2", "user@example.com")).isPresent();
+    }
+
+    @Test
+    void countsKeysSeparately() {
+        for (int i = 0; i < 500; i++) {
+            fail("10.0.%d.%d".formatted(i / 256, i % 256), "stuffed" + i + "@example.com", 5);
+        }
+
+        assertThat(limiter.retryAfter("192.168.0.1", "user@example.com")).isEmpty();
+    }
+
+    @Test
+    void blocksIpAcrossEmails() {
+        for (int i = 0; i < 20; i++) {
+            fail("10.0.0.1", "user" + i + "@example.com", 1);
+        }
+
+        assertThat(limiter.retryAfter("10.0.0.1", "someone@example.com")).isEqualTo(OptionalLong.of(300));
+        assertThat(limiter.retryAfter("10.0.0.2", "someone@example.com")).isEmpty();
+    }
+
+    private void fail(String clientIp, String email, int times) {
+        for (int i = 0; i < times; i++) {
+            limiter.recordFailure(clientIp, email);
+        }
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,72 @@
+package com.tipster.customer.infrastructure.security;
+
+import com.tipster.customer.domain.repository.TokenRevocationRepository;
+import com.tipster.customer.domain.repository.TokenRevocationRepository.TokenRevocation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    private final TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+
+    @Test
+    void purgeRebuildsTheFilterWithUnexpiredRevocationsOnly() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<TokenRevocation> expired = revocations(50, now.minusMinutes(1), now);
+        List<TokenRevocation> live = revocations(50, now.plusHours(1), now);
+        List<TokenRevocation> all = new ArrayList<>(expired);
+        all.addAll(live);
+        when(repository.currentTimestamp()).thenReturn(now);
+        when(repository.findUnexpired(any())).thenReturn(all);
+
+        TokenRevocationList revocationList = new TokenRevocationList(repository, 10);
+        revocationList.load();
+        revocationList.purgeExpired();
+
+        assertThat(live).allMatch(revocation -> revocationList.isRevoked(claims(revocation.jti())));
+        assertThat(expired).noneMatch(revocation -> revocationList.isRevoked(claims(revocation.jti())));
+        verify(repository).deleteExpired(any());
+    }
+
+    @Test
+    void revocationsAfterPurgeGoToTheRebuiltFilter() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        when(repository.currentTimestamp()).thenReturn(now);
+        when(repository.findUnexpired(any())).thenReturn(revocations(1, now.minusMinutes(1), now));
+
+        TokenRevocationList revocationList = new TokenRevocationList(repository, 10);
+        revocationList.load();
+        revocationList.purgeExpired();
+
+        JwtClaims revoked = claims(UUID.randomUUID());
+        revocationList.revoke(revoked);
+
+        assertThat(revocationList.isRevoked(revoked)).isTrue();
+        assertThat(revocationList.isRevoked(claims(UUID.randomUUID()))).isFalse();
+    }
+
+    private static List<TokenRevocation> revocations(int count, OffsetDateTime expiresAt, OffsetDateTime revokedAt) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TokenRevocation(UUID.randomUUID(), expiresAt, revokedAt))
+                .toList();
+    }
+
+    private static JwtClaims claims(UUID tokenId) {
+        return new JwtClaims(tokenId, UUID.randomUUID(), "user@example.com", "USER",
+                Instant.now().plus(Duration.ofHours(1)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.tipster.customer.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidBloomFilterTest {
+
+    @Test
+    void hasNoFalseNegativesAfterConcurrentAdds() throws Exception {
+        int threads = 8;
+        int perThread = 5_000;
+        // Small filter, so threads keep setting bits in the same words
+        UuidBloomFilter filter = new UuidBloomFilter(threads * perThread / 4, 0.01);
+        List<List<UUID>> batches = IntStream.range(0, threads)
+                .mapToObj(i -> IntStream.range(0, perThread).mapToObj(j -> UUID.randomUUID()).toList())
+                .toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<UUID> batch : batches) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    batch.forEach(filter::add);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        batches.forEach(batch -> assertThat(batch).allMatch(filter::mightContain));
+    }
+
+    @Test
+    void keepsFalsePositivesNearTheConfiguredRate() {
+        UuidBloomFilter filter = new UuidBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add(UUID.randomUUID()));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID()))
+                .count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}